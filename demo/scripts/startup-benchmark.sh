@@ -0,0 +1,117 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful authenticated GET /api/boards.
+#
+# Usage: scripts/startup-benchmark.sh <mode> [runs]
+#   mode: "default" runs the Spring Boot fat jar (mvn package),
+#         "fast-startup" runs the AOT jar with its CDS archive (mvn -Pfast-startup package).
+# Env:  PORT (default 18080), MAX_STARTUP_MS fails the run when the median exceeds it,
+#       MAX_STARTUP_RATIO fails the run when the median exceeds that fraction of the median of the
+#       "default" rows already in RESULTS_FILE, so run "default" first on the same machine,
+#       RESULTS_FILE appends "mode,run,millis" lines (default target/startup-benchmark.csv),
+#       STARTUP_TIMEOUT_MS fails a run that is not serving /api/boards by then (default 120000).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MODE="${1:-default}"
+RUNS="${2:-5}"
+PORT="${PORT:-18080}"
+RESULTS_FILE="${RESULTS_FILE:-target/startup-benchmark.csv}"
+STARTUP_TIMEOUT_MS="${STARTUP_TIMEOUT_MS:-120000}"
+BASE="http://localhost:${PORT}/api"
+
+case "$MODE" in
+  default)
+    JAR="$(ls target/taskflow-backend-*.jar | grep -v -- '-aot.jar' | head -n1)"
+    CMD=(java -jar "$JAR")
+    ;;
+  fast-startup)
+    JAR="$(ls target/fast-startup/taskflow-backend-*-aot.jar | head -n1)"
+    CMD=(java -XX:SharedArchiveFile=target/fast-startup/application.jsa -Xshare:auto
+         -Dspring.aot.enabled=true -jar "$JAR" --spring.profiles.active=fast-startup)
+    ;;
+  *)
+    echo "unknown mode: $MODE" >&2
+    exit 2
+    ;;
+esac
+
+now_ms() { date +%s%3N; }
+
+# Fails the run when the app has exited or the deadline has passed; the log is printed and removed.
+check_alive() {
+  local pid="$1" log="$2" deadline="$3"
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "application exited before serving /api/boards" >&2
+  elif [ "$(now_ms)" -gt "$deadline" ]; then
+    echo "application not serving /api/boards after ${STARTUP_TIMEOUT_MS} ms" >&2
+  else
+    return 0
+  fi
+  cat "$log" >&2
+  rm -f "$log"
+  return 1
+}
+
+run_once() {
+  local log start deadline token code pid elapsed
+  log="$(mktemp)"
+  start="$(now_ms)"
+  deadline=$(( start + STARTUP_TIMEOUT_MS ))
+  "${CMD[@]}" --server.port="$PORT" >"$log" 2>&1 &
+  pid=$!
+  trap 'kill "$pid" 2>/dev/null || true' RETURN
+
+  token=""
+  while [ -z "$token" ]; do
+    check_alive "$pid" "$log" "$deadline" || return 1
+    token="$(curl -sf -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+      -d '{"username":"bench","email":"bench@example.com","password":"bench","fullName":"Bench"}' \
+      | sed -n 's/.*"token":"\([^"]*\)".*/\1/p' || true)"
+    [ -n "$token" ] || sleep 0.02
+  done
+
+  code=""
+  until [ "$code" = "200" ]; do
+    check_alive "$pid" "$log" "$deadline" || return 1
+    code="$(curl -s -o /dev/null -w '%{http_code}' "$BASE/boards" -H "Authorization: Bearer $token" || true)"
+    [ "$code" = "200" ] || sleep 0.02
+  done
+  elapsed=$(( $(now_ms) - start ))
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  rm -f "$log"
+  echo "$elapsed"
+}
+
+mkdir -p "$(dirname "$RESULTS_FILE")"
+results=()
+for i in $(seq 1 "$RUNS"); do
+  ms="$(run_once)"
+  results+=("$ms")
+  echo "$MODE,$i,$ms" >>"$RESULTS_FILE"
+  echo "run $i: ${ms} ms to first GET /api/boards"
+done
+
+median="$(printf '%s\n' "${results[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+echo "$MODE median: ${median} ms"
+
+if [ -n "${MAX_STARTUP_MS:-}" ] && [ "$median" -gt "$MAX_STARTUP_MS" ]; then
+  echo "startup regression: median ${median} ms exceeds ${MAX_STARTUP_MS} ms" >&2
+  exit 1
+fi
+
+if [ -n "${MAX_STARTUP_RATIO:-}" ]; then
+  baseline="$(awk -F, '$1 == "default" {print $3}' "$RESULTS_FILE" | sort -n \
+    | awk '{a[NR]=$1} END {if (NR) print a[int((NR+1)/2)]}')"
+  if [ -z "$baseline" ]; then
+    echo "MAX_STARTUP_RATIO needs default runs in $RESULTS_FILE" >&2
+    exit 2
+  fi
+  echo "$MODE median is $(awk -v m="$median" -v b="$baseline" 'BEGIN {printf "%.2f", m / b}') of default (${baseline} ms)"
+  if awk -v m="$median" -v b="$baseline" -v r="$MAX_STARTUP_RATIO" 'BEGIN {exit !(m > b * r)}'; then
+    echo "startup regression: median ${median} ms exceeds ${MAX_STARTUP_RATIO} x default ${baseline} ms" >&2
+    exit 1
+  fi
+fi
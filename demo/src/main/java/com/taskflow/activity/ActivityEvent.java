@@ -0,0 +1,20 @@
+package com.taskflow.activity;
+
+import com.taskflow.model.TaskActivity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEvent {
+    private Long taskId;
+    private Long boardId;
+    private Long userId;
+    private TaskActivity.Type type;
+    private String detail;
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
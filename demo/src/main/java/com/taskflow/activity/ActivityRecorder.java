@@ -0,0 +1,136 @@
+package com.taskflow.activity;
+
+import com.taskflow.model.TaskActivity;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind recorder for task activity. Request threads only enqueue; a single background
+ * writer drains the queue in JDBC batches and flushes whatever is left on shutdown. Bulk and archive
+ * operations produce more events than the queue holds, so they use {@link #recordBatch} instead.
+ */
+@Service
+public class ActivityRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityRecorder.class);
+
+    private static final String INSERT_SQL =
+            "insert into task_activity (task_id, board_id, user_id, type, detail, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${activity.queue-capacity:8192}")
+    private int queueCapacity;
+
+    @Value("${activity.batch-size:256}")
+    private int batchSize;
+
+    @Value("${activity.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private BoundedRingQueue<ActivityEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new BoundedRingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "activity-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+    }
+
+    public void record(Long taskId, Long boardId, Long userId, TaskActivity.Type type, String detail) {
+        ActivityEvent event = new ActivityEvent(taskId, boardId, userId, type, detail, LocalDateTime.now());
+        if (!queue.offer(event)) {
+            long total = dropped.incrementAndGet();
+            if ((total & (total - 1)) == 0) {
+                log.warn("Activity queue full, {} events dropped so far", total);
+            }
+        } else if (queue.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Writes the events synchronously in the caller's transaction, so they commit or roll back with it.
+     */
+    public void recordBatch(List<ActivityEvent> events) {
+        if (!events.isEmpty()) {
+            write(events);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                if (flush() < batchSize) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                }
+            } catch (Exception e) {
+                log.error("Activity flush failed", e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+            }
+        }
+    }
+
+    private synchronized int flush() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        int written = 0;
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            written += batch.size();
+            batch.clear();
+        }
+        return written;
+    }
+
+    private void write(List<ActivityEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, (ps, event) -> {
+            ps.setLong(1, event.getTaskId());
+            ps.setLong(2, event.getBoardId());
+            if (event.getUserId() != null) {
+                ps.setLong(3, event.getUserId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, event.getType().name());
+            ps.setString(5, event.getDetail());
+            ps.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.taskflow.cache;
+
+import com.taskflow.datasource.PrimaryReads;
+import com.taskflow.model.Column;
+import com.taskflow.repository.BoardRepository;
+import com.taskflow.repository.ColumnRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class BoardCache {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    @Autowired
+    private LocalCache<Long, Long> boardOwnerCache;
+
+    @Autowired
+    private LocalCache<Long, List<Column>> boardColumnsCache;
+
+    public Long getOwnerId(Long boardId) {
+        return boardOwnerCache.get(boardId, id -> primaryReads.get(() -> boardRepository.findOwnerId(id)));
+    }
+
+    public List<Column> getColumns(Long boardId) {
+        return boardColumnsCache.get(boardId, id -> primaryReads.get(() ->
+                List.copyOf(columnRepository.findByBoard_IdOrderByOrderAsc(id))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.taskflow.cache;
+
+import com.taskflow.model.Column;
+import com.taskflow.security.BoardAccessIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${changelog.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${changelog.cache.max-age-ms:300000}")
+    private long maxAgeMs;
+
+    @Bean
+    public LocalCache<String, UserDetails> userDetailsCache() {
+        return new LocalCache<>(ChangeLog.USERS, Function.identity(), maxEntries, maxAgeMs);
+    }
+
+    @Bean
+    public LocalCache<Long, Long> boardOwnerCache() {
+        return new LocalCache<>(ChangeLog.BOARDS, Long::valueOf, maxEntries, maxAgeMs);
+    }
+
+    @Bean
+    public LocalCache<Long, List<Column>> boardColumnsCache() {
+        return new LocalCache<>(ChangeLog.COLUMNS, Long::valueOf, maxEntries, maxAgeMs);
+    }
+
+    @Bean
+    public LocalCache<Long, BoardAccessIndex.BoardAccess> boardAccessCache() {
+        return new LocalCache<>(ChangeLog.ACCESS, Long::valueOf, maxEntries, maxAgeMs);
+    }
+}
\ No newline at end of file
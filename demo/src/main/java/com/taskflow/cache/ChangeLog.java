@@ -0,0 +1,79 @@
+package com.taskflow.cache;
+
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.repository.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Records which cache entries a mutation makes stale. The row joins the caller's transaction, so other
+ * instances see it exactly when the mutation commits; this instance invalidates right after commit.
+ * Names without a local cache can be handled by a listener instead, e.g. to add a revoked token id to
+ * every instance's filter.
+ */
+@Service
+public class ChangeLog {
+
+    public static final String USERS = "users";
+    public static final String BOARDS = "boards";
+    public static final String COLUMNS = "columns";
+    public static final String TASKS = "tasks";
+    public static final String ACCESS = "access";
+    public static final String REVOCATIONS = "revocations";
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    private final Map<String, LocalCache<?, ?>> caches = new HashMap<>();
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    @Autowired
+    public void setCaches(List<LocalCache<?, ?>> localCaches) {
+        for (LocalCache<?, ?> cache : localCaches) {
+            caches.put(cache.getName(), cache);
+        }
+    }
+
+    public void addListener(String name, Consumer<String> listener) {
+        listeners.put(name, listener);
+    }
+
+    public void record(String cacheName, Object key) {
+        String cacheKey = String.valueOf(key);
+        changeLogRepository.save(new ChangeLogEntry(null, cacheName, cacheKey, LocalDateTime.now()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(cacheName, cacheKey);
+                }
+            });
+        } else {
+            invalidate(cacheName, cacheKey);
+        }
+    }
+
+    public void invalidate(String cacheName, String cacheKey) {
+        LocalCache<?, ?> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(cacheKey);
+        }
+        Consumer<String> listener = listeners.get(cacheName);
+        if (listener != null) {
+            listener.accept(cacheKey);
+        }
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(LocalCache::invalidateAll);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.taskflow.cache;
+
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.repository.ChangeLogRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tails the change log by id and invalidates the named local cache entries. Ids are allocated before
+ * commit, so a lower id can become visible after a higher one: the watermark only moves past an id once
+ * it has been seen, or once it has been missing for longer than {@code changelog.gap-timeout-ms}
+ * (rolled back transactions leave permanent gaps).
+ */
+@Service
+@Lazy(false)
+public class ChangeLogPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogPoller.class);
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Value("${changelog.batch-size:500}")
+    private int batchSize;
+
+    @Value("${changelog.gap-timeout-ms:10000}")
+    private long gapTimeoutMs;
+
+    @Value("${changelog.retention-ms:3600000}")
+    private long retentionMs;
+
+    private long watermark;
+    private final Set<Long> seen = new HashSet<>();
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        watermark = changeLogRepository.findMaxId();
+    }
+
+    @Scheduled(fixedDelayString = "${changelog.poll-interval-ms:500}")
+    public synchronized void poll() {
+        try {
+            List<ChangeLogEntry> entries = changeLogRepository.findByIdGreaterThanOrderByIdAsc(
+                    watermark, PageRequest.of(0, batchSize));
+            long highest = watermark;
+            for (ChangeLogEntry entry : entries) {
+                if (seen.add(entry.getId())) {
+                    changeLog.invalidate(entry.getCacheName(), entry.getCacheKey());
+                }
+                highest = entry.getId();
+            }
+            advance(highest, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Change log poll failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${changelog.prune-interval-ms:600000}")
+    public void prune() {
+        changeLogRepository.deleteOlderThan(LocalDateTime.now().minus(retentionMs, ChronoUnit.MILLIS));
+    }
+
+    public synchronized long getWatermark() {
+        return watermark;
+    }
+
+    private void advance(long highest, long now) {
+        for (long id = watermark + 1; id < highest; id++) {
+            if (!seen.contains(id)) {
+                gaps.putIfAbsent(id, now);
+            }
+        }
+        while (watermark < highest) {
+            long next = watermark + 1;
+            if (seen.remove(next)) {
+                gaps.remove(next);
+            } else {
+                Long missingSince = gaps.get(next);
+                if (missingSince == null || now - missingSince < gapTimeoutMs) {
+                    break;
+                }
+                gaps.remove(next);
+            }
+            watermark = next;
+        }
+    }
+}
\ No newline at end of file
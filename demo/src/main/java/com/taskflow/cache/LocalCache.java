@@ -0,0 +1,70 @@
+package com.taskflow.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-process cache invalidated through the change log. A load that overlaps an invalidation is not
+ * stored, and entries also expire after a fixed age as a backstop for invalidations that were missed.
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final Function<String, K> keyParser;
+    private final int maxEntries;
+    private final long maxAgeMs;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public LocalCache(String name, Function<String, K> keyParser, int maxEntries, long maxAgeMs) {
+        this.name = name;
+        this.keyParser = keyParser;
+        this.maxEntries = maxEntries;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt < maxAgeMs) {
+            return entry.value;
+        }
+
+        long stamp = invalidations.get();
+        V value = loader.apply(key);
+        if (value != null && stamp == invalidations.get()) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            Entry<V> loaded = new Entry<>(value, now);
+            entries.put(key, loaded);
+            if (stamp != invalidations.get()) {
+                entries.remove(key, loaded);
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(String key) {
+        invalidations.incrementAndGet();
+        entries.remove(keyParser.apply(key));
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
\ No newline at end of file
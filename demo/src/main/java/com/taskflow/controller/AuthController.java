@@ -1,11 +1,14 @@
 package com.taskflow.controller;
 
+import com.taskflow.cache.ChangeLog;
 import com.taskflow.dto.AuthRequest;
 import com.taskflow.dto.AuthResponse;
 import com.taskflow.dto.RegisterRequest;
 import com.taskflow.model.User;
 import com.taskflow.repository.UserRepository;
 import com.taskflow.security.JwtUtil;
+import com.taskflow.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +16,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -38,7 +42,14 @@ public class AuthController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private ChangeLog changeLog;
+
     @PostMapping("/register")
+    @Transactional
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
         try {
             if (userRepository.existsByUsername(request.getUsername())) {
@@ -56,16 +67,18 @@ public class AuthController {
             user.setFullName(request.getFullName());
 
             userRepository.save(user);
+            changeLog.record(ChangeLog.USERS, user.getUsername());
 
             final UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
             final String jwt = jwtUtil.generateToken(userDetails);
+            final String refreshToken = jwtUtil.generateRefreshToken(userDetails);
 
             Map<String, Object> userData = new HashMap<>();
             userData.put("id", user.getId());
             userData.put("username", user.getUsername());
             userData.put("email", user.getEmail());
 
-            return ResponseEntity.ok(new AuthResponse(jwt, userData));
+            return ResponseEntity.ok(new AuthResponse(jwt, refreshToken, userData));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("message", "Registration failed: " + e.getMessage()));
         }
@@ -80,6 +93,7 @@ public class AuthController {
 
             final UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
             final String jwt = jwtUtil.generateToken(userDetails);
+            final String refreshToken = jwtUtil.generateRefreshToken(userDetails);
 
             User user = userRepository.findByUsername(request.getUsername())
                     .orElseThrow(() -> new RuntimeException("User not found"));
@@ -89,9 +103,59 @@ public class AuthController {
             userData.put("username", user.getUsername());
             userData.put("email", user.getEmail());
 
-            return ResponseEntity.ok(new AuthResponse(jwt, userData));
+            return ResponseEntity.ok(new AuthResponse(jwt, refreshToken, userData));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("message", "Invalid username or password"));
         }
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> request) {
+        try {
+            Claims claims = jwtUtil.extractAllClaims(request.get("refreshToken"));
+            if (!JwtUtil.REFRESH_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM))) {
+                return ResponseEntity.status(401).body(Map.of("message", "Invalid refresh token"));
+            }
+
+            final UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            // Revoking is the exact check: only one refresh of a token can insert its id
+            if (!tokenRevocationService.revoke(claims.getId(), claims.getExpiration())) {
+                return ResponseEntity.status(401).body(Map.of("message", "Invalid refresh token"));
+            }
+
+            User user = userRepository.findByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+
+            Map<String, Object> userData = new HashMap<>();
+            userData.put("id", user.getId());
+            userData.put("username", user.getUsername());
+            userData.put("email", user.getEmail());
+
+            return ResponseEntity.ok(new AuthResponse(jwtUtil.generateToken(userDetails),
+                    jwtUtil.generateRefreshToken(userDetails), userData));
+        } catch (Exception e) {
+            return ResponseEntity.status(401).body(Map.of("message", "Invalid refresh token"));
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                    @RequestBody(required = false) Map<String, String> request) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            revokeQuietly(authorization.substring(7));
+        }
+        if (request != null && request.get("refreshToken") != null) {
+            revokeQuietly(request.get("refreshToken"));
+        }
+        return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
+    }
+
+    private void revokeQuietly(String token) {
+        try {
+            Claims claims = jwtUtil.extractAllClaims(token);
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+        } catch (Exception e) {
+            // expired or malformed tokens are already unusable
+        }
+    }
 }
\ No newline at end of file
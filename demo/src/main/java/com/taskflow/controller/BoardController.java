@@ -1,18 +1,38 @@
 package com.taskflow.controller;
 
+import com.taskflow.cache.BoardCache;
+import com.taskflow.cache.ChangeLog;
+import com.taskflow.dto.BulkTaskRequest;
+import com.taskflow.dto.FieldSelection;
+import com.taskflow.model.ArchivedTask;
 import com.taskflow.model.Board;
+import com.taskflow.model.BoardMember;
 import com.taskflow.model.Column;
 import com.taskflow.model.Task;
+import com.taskflow.model.TaskActivity;
 import com.taskflow.model.User;
+import com.taskflow.reminder.ReminderScheduler;
+import com.taskflow.repository.ArchivedTaskRepository;
+import com.taskflow.repository.BoardMemberRepository;
 import com.taskflow.repository.BoardRepository;
+import com.taskflow.repository.BoardRepositoryCustom;
 import com.taskflow.repository.ColumnRepository;
+import com.taskflow.repository.TaskActivityRepository;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskRepositoryCustom;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.security.BoardAccessIndex;
+import com.taskflow.service.ArchiveService;
+import com.taskflow.service.BoardCloneService;
+import com.taskflow.service.BulkTaskService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -33,14 +53,67 @@ public class BoardController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private TaskActivityRepository taskActivityRepository;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private BoardCloneService boardCloneService;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private BoardAccessIndex boardAccessIndex;
+
     @GetMapping
-    public ResponseEntity<List<Board>> getAllBoards(Authentication authentication) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllBoards(@RequestParam(required = false) String fields,
+                                          @RequestParam(required = false) String view,
+                                          Authentication authentication) {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return ResponseEntity.ok(boardRepository.findByOwner_Id(user.getId()));
+
+        if (FieldSelection.isRequested(fields, view)) {
+            try {
+                return ResponseEntity.ok(boardRepository.findFieldsByUserId(user.getId(), FieldSelection.resolve(
+                        fields, view, BoardRepositoryCustom.SELECTABLE_FIELDS, BoardRepositoryCustom.SUMMARY_FIELDS)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+            }
+        }
+
+        return ResponseEntity.ok(boardRepository.findAccessibleByUserId(user.getId()));
+    }
+
+    @GetMapping("/templates")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Board>> getTemplates(Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        return ResponseEntity.ok(boardRepository.findTemplatesByOwnerId(user.getId()));
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Board> getBoard(@PathVariable Long id, Authentication authentication) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
@@ -48,7 +121,7 @@ public class BoardController {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!board.getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -56,6 +129,7 @@ public class BoardController {
     }
 
     @PostMapping
+    @Transactional
     public ResponseEntity<Board> createBoard(@RequestBody Map<String, String> request, Authentication authentication) {
         try {
             User user = userRepository.findByUsername(authentication.getName())
@@ -73,9 +147,13 @@ public class BoardController {
                 com.taskflow.model.Column column = new com.taskflow.model.Column();
                 column.setName(defaultColumns[i]);
                 column.setOrder(i);
+                column.setDone("Done".equals(defaultColumns[i]));
                 column.setBoard(savedBoard);
                 columnRepository.save(column);
             }
+            changeLog.record(ChangeLog.BOARDS, savedBoard.getId());
+            changeLog.record(ChangeLog.COLUMNS, savedBoard.getId());
+            changeLog.record(ChangeLog.ACCESS, user.getId());
 
             return ResponseEntity.ok(savedBoard);
         } catch (Exception e) {
@@ -84,7 +162,32 @@ public class BoardController {
         }
     }
 
+    @PostMapping("/{id}:clone")
+    public ResponseEntity<Board> cloneBoard(@PathVariable Long id,
+                                            @RequestBody(required = false) Map<String, Object> request,
+                                            Authentication authentication) {
+        Board source = boardRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Board not found"));
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        Map<String, Object> options = request != null ? request : Map.of();
+        boolean template = Boolean.parseBoolean(String.valueOf(options.get("template")));
+        boolean includeTasks = !options.containsKey("includeTasks")
+                || Boolean.parseBoolean(options.get("includeTasks").toString());
+        String name = options.get("name") != null ? options.get("name").toString()
+                : source.isTemplate() || template ? source.getName() : source.getName() + " (copy)";
+
+        return ResponseEntity.ok(boardCloneService.cloneBoard(source, user, name, template, includeTasks));
+    }
+
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<Board> updateBoard(@PathVariable Long id, @RequestBody Map<String, String> request,
                                              Authentication authentication) {
         Board board = boardRepository.findById(id)
@@ -93,17 +196,20 @@ public class BoardController {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!board.getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.ADMIN)) {
             return ResponseEntity.status(403).build();
         }
 
         board.setName(request.get("name"));
         board.setDescription(request.get("description"));
 
-        return ResponseEntity.ok(boardRepository.save(board));
+        Board savedBoard = boardRepository.save(board);
+        changeLog.record(ChangeLog.BOARDS, id);
+        return ResponseEntity.ok(savedBoard);
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> deleteBoard(@PathVariable Long id, Authentication authentication) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
@@ -111,41 +217,223 @@ public class BoardController {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!board.getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.OWNER)) {
             return ResponseEntity.status(403).build();
         }
 
+        List<Long> memberIds = boardMemberRepository.findUserIdsByBoardId(id);
+        boardMemberRepository.deleteByBoardId(id);
+        archivedTaskRepository.deleteTagsByBoardId(id);
+        archivedTaskRepository.deleteByBoardId(id);
         boardRepository.delete(board);
+        changeLog.record(ChangeLog.BOARDS, id);
+        changeLog.record(ChangeLog.COLUMNS, id);
+        changeLog.record(ChangeLog.TASKS, id);
+        changeLog.record(ChangeLog.ACCESS, user.getId());
+        for (Long memberId : memberIds) {
+            changeLog.record(ChangeLog.ACCESS, memberId);
+        }
+        reminderScheduler.onBoardDeleted(id);
         return ResponseEntity.ok(Map.of("message", "Board deleted successfully"));
     }
 
     @GetMapping("/{id}/columns")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<Column>> getColumns(@PathVariable Long id, Authentication authentication) {
+        if (boardCache.getOwnerId(id) == null) {
+            throw new RuntimeException("Board not found");
+        }
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(boardCache.getColumns(id));
+    }
+
+    @GetMapping("/{id}/tasks")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getTasks(@PathVariable Long id,
+                                      @RequestParam(required = false) String fields,
+                                      @RequestParam(required = false) String view,
+                                      Authentication authentication) {
+        if (boardCache.getOwnerId(id) == null) {
+            throw new RuntimeException("Board not found");
+        }
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        if (FieldSelection.isRequested(fields, view)) {
+            try {
+                return ResponseEntity.ok(taskRepository.findFieldsByBoardId(id, FieldSelection.resolve(
+                        fields, view, TaskRepositoryCustom.SELECTABLE_FIELDS, TaskRepositoryCustom.SUMMARY_FIELDS)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+            }
+        }
+
+        return ResponseEntity.ok(taskRepository.findByBoard_IdOrderByOrderAsc(id));
+    }
+
+    @PostMapping("/{id}/tasks:bulk")
+    public ResponseEntity<?> bulkUpdateTasks(@PathVariable Long id, @RequestBody BulkTaskRequest request,
+                                             Authentication authentication) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
 
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!board.getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.EDITOR)) {
             return ResponseEntity.status(403).build();
         }
 
-        return ResponseEntity.ok(columnRepository.findByBoard_IdOrderByOrderAsc(id));
+        try {
+            return ResponseEntity.ok(bulkTaskService.apply(board, user, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
     }
 
-    @GetMapping("/{id}/tasks")
-    public ResponseEntity<List<Task>> getTasks(@PathVariable Long id, Authentication authentication) {
+    @GetMapping("/{id}/archive")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ArchivedTask>> getArchivedTasks(@PathVariable Long id,
+                                                               @RequestParam(required = false) Long before,
+                                                               @RequestParam(defaultValue = "50") int limit,
+                                                               Authentication authentication) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
 
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!board.getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
             return ResponseEntity.status(403).build();
         }
 
-        return ResponseEntity.ok(taskRepository.findByBoard_IdOrderByOrderAsc(id));
+        return ResponseEntity.ok(archivedTaskRepository.findByBoardIdAndIdLessThanOrderByIdDesc(
+                id, before != null ? before : Long.MAX_VALUE, PageRequest.of(0, Math.min(Math.max(limit, 1), 200))));
+    }
+
+    @PostMapping("/{id}/archive/{taskId}/restore")
+    public ResponseEntity<Task> restoreTask(@PathVariable Long id, @PathVariable Long taskId,
+                                            Authentication authentication) {
+        Board board = boardRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Board not found"));
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.EDITOR)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        ArchivedTask archived = archivedTaskRepository.findById(taskId)
+                .filter(task -> task.getBoardId().equals(id))
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+
+        return ResponseEntity.ok(archiveService.restore(archived, user));
+    }
+
+    @GetMapping("/{id}/activity")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<TaskActivity>> getActivity(@PathVariable Long id,
+                                                          @RequestParam(required = false) Long before,
+                                                          @RequestParam(defaultValue = "50") int limit,
+                                                          Authentication authentication) {
+        Board board = boardRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Board not found"));
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(taskActivityRepository.findByBoardIdAndIdLessThanOrderByIdDesc(
+                id, before != null ? before : Long.MAX_VALUE, PageRequest.of(0, Math.min(Math.max(limit, 1), 200))));
+    }
+
+    @GetMapping("/{id}/members")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BoardMember>> getMembers(@PathVariable Long id, Authentication authentication) {
+        Board board = boardRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Board not found"));
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.VIEWER)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(boardMemberRepository.findByBoardId(id));
+    }
+
+    @PutMapping("/{id}/members")
+    @Transactional
+    public ResponseEntity<?> putMember(@PathVariable Long id, @RequestBody Map<String, String> request,
+                                       Authentication authentication) {
+        Board board = boardRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Board not found"));
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.ADMIN)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        BoardMember.Role role;
+        try {
+            role = BoardMember.Role.valueOf(String.valueOf(request.get("role")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Unknown role: " + request.get("role")));
+        }
+        if (role == BoardMember.Role.OWNER) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Ownership cannot be granted"));
+        }
+
+        User member = userRepository.findByUsername(String.valueOf(request.get("username")))
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (member.getId().equals(board.getOwner().getId())) {
+            return ResponseEntity.badRequest().body(Map.of("message", "User already owns this board"));
+        }
+
+        BoardMember boardMember = boardMemberRepository.findByBoardIdAndUserId(id, member.getId())
+                .orElseGet(() -> new BoardMember(null, id, member.getId(), null, LocalDateTime.now()));
+        boardMember.setRole(role);
+
+        BoardMember savedMember = boardMemberRepository.save(boardMember);
+        changeLog.record(ChangeLog.ACCESS, member.getId());
+        return ResponseEntity.ok(savedMember);
+    }
+
+    @DeleteMapping("/{id}/members/{userId}")
+    @Transactional
+    public ResponseEntity<?> deleteMember(@PathVariable Long id, @PathVariable Long userId,
+                                          Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!userId.equals(user.getId()) && !boardAccessIndex.hasRole(user.getId(), id, BoardMember.Role.ADMIN)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        BoardMember boardMember = boardMemberRepository.findByBoardIdAndUserId(id, userId)
+                .orElseThrow(() -> new RuntimeException("Member not found"));
+
+        boardMemberRepository.delete(boardMember);
+        changeLog.record(ChangeLog.ACCESS, userId);
+        return ResponseEntity.ok(Map.of("message", "Member removed successfully"));
     }
 }
\ No newline at end of file
@@ -1,21 +1,33 @@
 package com.taskflow.controller;
 
+import com.taskflow.activity.ActivityRecorder;
+import com.taskflow.cache.ChangeLog;
 import com.taskflow.model.Board;
+import com.taskflow.model.BoardMember;
 import com.taskflow.model.Column;
 import com.taskflow.model.Task;
+import com.taskflow.model.TaskActivity;
 import com.taskflow.model.User;
+import com.taskflow.reminder.ReminderScheduler;
 import com.taskflow.repository.BoardRepository;
 import com.taskflow.repository.ColumnRepository;
+import com.taskflow.repository.TaskActivityRepository;
 import com.taskflow.repository.TaskRepository;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.security.BoardAccessIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -34,7 +46,23 @@ public class TaskController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private TaskActivityRepository taskActivityRepository;
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private BoardAccessIndex boardAccessIndex;
+
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Task> getTask(@PathVariable Long id, Authentication authentication) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -42,7 +70,7 @@ public class TaskController {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!task.getBoard().getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), task.getBoard().getId(), BoardMember.Role.VIEWER)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -50,6 +78,7 @@ public class TaskController {
     }
 
     @PostMapping
+    @Transactional
     public ResponseEntity<Task> createTask(@RequestBody Map<String, Object> request, Authentication authentication) {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -60,11 +89,12 @@ public class TaskController {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
 
-        if (!board.getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), boardId, BoardMember.Role.EDITOR)) {
             return ResponseEntity.status(403).build();
         }
 
         Column column = columnRepository.findById(columnId)
+                .filter(c -> c.getBoard().getId().equals(boardId))
                 .orElseThrow(() -> new RuntimeException("Column not found"));
 
         Task task = new Task();
@@ -72,6 +102,9 @@ public class TaskController {
         task.setDescription(request.get("description") != null ? request.get("description").toString() : "");
         task.setColumn(column);
         task.setBoard(board);
+        if (column.isDone()) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
 
         if (request.containsKey("priority")) {
             task.setPriority(Task.Priority.valueOf(request.get("priority").toString()));
@@ -87,10 +120,17 @@ public class TaskController {
             task.setTags(tags);
         }
 
-        return ResponseEntity.ok(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        boardRepository.incrementVersion(boardId);
+        changeLog.record(ChangeLog.TASKS, boardId);
+        reminderScheduler.onTaskSaved(savedTask);
+        activityRecorder.record(savedTask.getId(), boardId, user.getId(), TaskActivity.Type.CREATED,
+                "Created in " + column.getName());
+        return ResponseEntity.ok(savedTask);
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody Map<String, Object> request,
                                            Authentication authentication) {
         Task task = taskRepository.findById(id)
@@ -99,10 +139,17 @@ public class TaskController {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!task.getBoard().getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), task.getBoard().getId(), BoardMember.Role.EDITOR)) {
             return ResponseEntity.status(403).build();
         }
 
+        String oldTitle = task.getTitle();
+        String oldDescription = task.getDescription();
+        Column oldColumn = task.getColumn();
+        Task.Priority oldPriority = task.getPriority();
+        LocalDate oldDueDate = task.getDueDate();
+        List<String> oldTags = new ArrayList<>(task.getTags());
+
         if (request.containsKey("title")) {
             task.setTitle(request.get("title").toString());
         }
@@ -114,7 +161,11 @@ public class TaskController {
         if (request.containsKey("columnId")) {
             Long columnId = Long.valueOf(request.get("columnId").toString());
             Column column = columnRepository.findById(columnId)
+                    .filter(c -> c.getBoard().getId().equals(task.getBoard().getId()))
                     .orElseThrow(() -> new RuntimeException("Column not found"));
+            if (column.isDone() != task.getColumn().isDone()) {
+                task.setCompletedAt(column.isDone() ? LocalDateTime.now() : null);
+            }
             task.setColumn(column);
         }
 
@@ -136,10 +187,16 @@ public class TaskController {
             task.setTags(tags);
         }
 
-        return ResponseEntity.ok(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        boardRepository.incrementVersion(savedTask.getBoard().getId());
+        changeLog.record(ChangeLog.TASKS, savedTask.getBoard().getId());
+        reminderScheduler.onTaskSaved(savedTask);
+        recordChanges(savedTask, user, oldTitle, oldDescription, oldColumn, oldPriority, oldDueDate, oldTags);
+        return ResponseEntity.ok(savedTask);
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> deleteTask(@PathVariable Long id, Authentication authentication) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -147,11 +204,68 @@ public class TaskController {
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!task.getBoard().getOwner().getId().equals(user.getId())) {
+        if (!boardAccessIndex.hasRole(user.getId(), task.getBoard().getId(), BoardMember.Role.EDITOR)) {
             return ResponseEntity.status(403).build();
         }
 
         taskRepository.delete(task);
+        boardRepository.incrementVersion(task.getBoard().getId());
+        changeLog.record(ChangeLog.TASKS, task.getBoard().getId());
+        reminderScheduler.onTaskDeleted(id);
+        activityRecorder.record(id, task.getBoard().getId(), user.getId(), TaskActivity.Type.DELETED, task.getTitle());
         return ResponseEntity.ok(Map.of("message", "Task deleted successfully"));
     }
+
+    @GetMapping("/{id}/activity")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<TaskActivity>> getActivity(@PathVariable Long id,
+                                                          @RequestParam(required = false) Long before,
+                                                          @RequestParam(defaultValue = "50") int limit,
+                                                          Authentication authentication) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!boardAccessIndex.hasRole(user.getId(), task.getBoard().getId(), BoardMember.Role.VIEWER)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(taskActivityRepository.findByTaskIdAndIdLessThanOrderByIdDesc(
+                id, before != null ? before : Long.MAX_VALUE, PageRequest.of(0, Math.min(Math.max(limit, 1), 200))));
+    }
+
+    private void recordChanges(Task task, User user, String oldTitle, String oldDescription, Column oldColumn,
+                               Task.Priority oldPriority, LocalDate oldDueDate, List<String> oldTags) {
+        Long boardId = task.getBoard().getId();
+
+        if (!oldColumn.getId().equals(task.getColumn().getId())) {
+            activityRecorder.record(task.getId(), boardId, user.getId(), TaskActivity.Type.MOVED,
+                    oldColumn.getName() + " -> " + task.getColumn().getName());
+        }
+
+        if (oldPriority != task.getPriority()) {
+            activityRecorder.record(task.getId(), boardId, user.getId(), TaskActivity.Type.PRIORITY_CHANGED,
+                    oldPriority + " -> " + task.getPriority());
+        }
+
+        List<String> edited = new ArrayList<>();
+        if (!Objects.equals(oldTitle, task.getTitle())) {
+            edited.add("title");
+        }
+        if (!Objects.equals(oldDescription, task.getDescription())) {
+            edited.add("description");
+        }
+        if (!Objects.equals(oldDueDate, task.getDueDate())) {
+            edited.add("dueDate");
+        }
+        if (!Objects.equals(oldTags, task.getTags())) {
+            edited.add("tags");
+        }
+        if (!edited.isEmpty()) {
+            activityRecorder.record(task.getId(), boardId, user.getId(), TaskActivity.Type.EDITED,
+                    String.join(", ", edited));
+        }
+    }
 }
\ No newline at end of file
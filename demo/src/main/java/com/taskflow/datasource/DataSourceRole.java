@@ -0,0 +1,5 @@
+package com.taskflow.datasource;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.taskflow.datasource;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads that fill change-log invalidated caches on the primary. The invalidation can arrive before
+ * the replica has applied the change, and a row read from it then would stay cached until it expires.
+ * A read-only transaction that is already open may hold a replica connection, so the read gets its own.
+ */
+@Component
+public class PrimaryReads {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // only defined when a replica is configured
+    @Autowired(required = false)
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T get(Supplier<T> read) {
+        if (replicaLagMonitor == null) {
+            return read.get();
+        }
+        boolean inReadOnlyTransaction = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return ReadWriteRoutingDataSource.onPrimary(() -> inReadOnlyTransaction
+                ? transactionTemplate.execute(status -> read.get()) : read.get());
+    }
+}
\ No newline at end of file
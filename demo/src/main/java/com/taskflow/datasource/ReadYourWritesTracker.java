@@ -0,0 +1,101 @@
+package com.taskflow.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it writes, until the replica has had
+ * time to catch up. The deadline travels with the client in a cookie rather than living in this JVM, so
+ * it holds whichever instance behind the load balancer serves the next request. Deadlines further ahead
+ * than twice the window are ignored, which bounds what a forged cookie can pin to the primary and still
+ * tolerates small clock differences between instances. Runs ahead of Spring Security, whose filters
+ * already read the database.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadYourWritesTracker extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "primary-until";
+
+    private static final ThreadLocal<Pin> CURRENT = new ThreadLocal<>();
+
+    private final long windowMs;
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CURRENT.set(new Pin(response, isPinned(request)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Pins the rest of the current request to the primary and tells the client to stay there for the
+     * window. Does nothing outside a request, e.g. in scheduled jobs.
+     */
+    public void markWrite() {
+        Pin pin = CURRENT.get();
+        if (pin == null || pin.written) {
+            return;
+        }
+        pin.written = true;
+        pin.sticky = true;
+        if (!pin.response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis() + windowMs));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (windowMs + 999) / 1000));
+            cookie.setAttribute("SameSite", "Lax");
+            pin.response.addCookie(cookie);
+        }
+    }
+
+    public boolean isSticky() {
+        Pin pin = CURRENT.get();
+        return pin != null && pin.sticky;
+    }
+
+    private boolean isPinned(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until - now <= 2 * windowMs;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class Pin {
+        private final HttpServletResponse response;
+        private boolean sticky;
+        private boolean written;
+
+        private Pin(HttpServletResponse response, boolean sticky) {
+            this.response = response;
+            this.sticky = sticky;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.taskflow.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+
+/**
+ * Estimates replica lag from a heartbeat row that is written to the primary and read back from the
+ * replica. The replica is considered usable only while that estimate stays under the configured
+ * maximum; any failure to read it marks the replica unusable until the next successful probe. The table
+ * and its single row come from the V8 migration.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+    private volatile long lagMs = Long.MAX_VALUE;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMs) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean isReplicaUsable() {
+        return maxLagMs < 0 || lagMs <= maxLagMs;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        try {
+            primary.update("update replication_heartbeat set beat_at = ? where id = 1",
+                    new Timestamp(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("Could not write replication heartbeat: {}", e.getMessage());
+        }
+        refresh();
+    }
+
+    public void refresh() {
+        long previous = lagMs;
+        try {
+            Timestamp beat = replica.queryForObject("select beat_at from replication_heartbeat where id = 1", Timestamp.class);
+            lagMs = beat == null ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - beat.getTime());
+        } catch (Exception e) {
+            lagMs = Long.MAX_VALUE;
+        }
+        boolean wasUsable = maxLagMs < 0 || previous <= maxLagMs;
+        if (wasUsable != isReplicaUsable()) {
+            log.info("Replica {} (lag {} ms)", isReplicaUsable() ? "back in rotation" : "taken out of rotation",
+                    lagMs == Long.MAX_VALUE ? "unknown" : lagMs);
+        }
+    }
+}
\ No newline at end of file
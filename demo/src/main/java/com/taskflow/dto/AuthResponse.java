@@ -10,5 +10,6 @@ import java.util.Map;
 @AllArgsConstructor
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private Map<String, Object> user;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskRequest {
+    private Operation operation;
+    private String value;
+    private List<Long> taskIds;
+    private Filter filter;
+
+    public enum Operation {
+        SET_PRIORITY, SET_DUE_DATE, MOVE_TO_COLUMN, ADD_TAG, REMOVE_TAG, DELETE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+        private Long columnId;
+        private Task.Priority priority;
+        private String tag;
+        private LocalDate dueBefore;
+        private LocalDate dueAfter;
+    }
+}
\ No newline at end of file
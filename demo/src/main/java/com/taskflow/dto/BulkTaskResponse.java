@@ -0,0 +1,15 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private BulkTaskRequest.Operation operation;
+    private int matched;
+    private int affected;
+    private Long boardVersion;
+}
\ No newline at end of file
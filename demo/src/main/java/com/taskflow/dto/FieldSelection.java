@@ -0,0 +1,41 @@
+package com.taskflow.dto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class FieldSelection {
+
+    public static final String SUMMARY_VIEW = "summary";
+
+    private FieldSelection() {
+    }
+
+    public static boolean isRequested(String fields, String view) {
+        return (fields != null && !fields.isBlank()) || (view != null && !view.isBlank());
+    }
+
+    public static Set<String> resolve(String fields, String view, List<String> allowed, List<String> summary) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        if (view != null && !view.isBlank()) {
+            if (!SUMMARY_VIEW.equals(view)) {
+                throw new IllegalArgumentException("Unknown view: " + view);
+            }
+            selected.addAll(summary);
+        }
+        if (fields != null && !fields.isBlank()) {
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!allowed.contains(name)) {
+                    throw new IllegalArgumentException("Unknown field: " + name);
+                }
+                selected.add(name);
+            }
+        }
+        return selected;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.taskflow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskflow.Authorization")
+@Label("Board Authorization")
+@Category({"TaskFlow", "Security"})
+@Description("Board role check against the access index, including a load on a cache miss")
+@StackTrace(false)
+public class AuthorizationEvent extends Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Board Id")
+    public long boardId;
+
+    @Label("Required Role")
+    public String requiredRole;
+
+    @Label("Granted")
+    public boolean granted;
+}
\ No newline at end of file
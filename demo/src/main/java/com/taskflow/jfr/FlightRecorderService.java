@@ -0,0 +1,108 @@
+package com.taskflow.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import javax.management.ObjectName;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Always-on flight recording using the JDK "default" settings overlaid with {@code jfr/taskflow.jfc}. Data is
+ * kept on disk for {@code jfr.max-age-ms}, so the minutes before a latency spike can be dumped on demand.
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    @Value("${jfr.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jfr.settings:jfr/taskflow.jfc}")
+    private String settings;
+
+    @Value("${jfr.max-age-ms:1800000}")
+    private long maxAgeMs;
+
+    @Value("${jfr.max-size-mb:100}")
+    private long maxSizeMb;
+
+    private Recording recording;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws Exception {
+        if (!enabled || !FlightRecorder.isAvailable() || recording != null) {
+            return;
+        }
+
+        Map<String, String> merged = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(new ClassPathResource(settings).getInputStream(),
+                StandardCharsets.UTF_8)) {
+            merged.putAll(Configuration.create(reader).getSettings());
+        }
+
+        recording = new Recording(merged);
+        recording.setName("taskflow");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMillis(maxAgeMs));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.start();
+        log.info("Flight recording {} started, keeping {} min / {} MB", recording.getId(), maxAgeMs / 60_000,
+                maxSizeMb);
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    public Duration getMaxAge() {
+        return Duration.ofMillis(maxAgeMs);
+    }
+
+    /**
+     * Writes the last {@code last} of the recording to a new temporary file. The public Recording API can only
+     * dump everything it holds, so this goes through the JFR.dump diagnostic command, which trims by age.
+     */
+    public synchronized Path dump(Duration last) throws Exception {
+        if (recording == null) {
+            throw new IllegalStateException("Flight recording is not running");
+        }
+
+        Path file = Files.createTempFile("taskflow-", ".jfr");
+        Files.delete(file);
+        Object output = ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"), "jfrDump",
+                new Object[]{new String[]{"name=" + recording.getId(), "filename=" + file,
+                        "maxage=" + Math.max(last.toSeconds(), 1) + "s"}},
+                new String[]{String[].class.getName()});
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("JFR.dump failed: " + output);
+        }
+        return file;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.taskflow.jfr;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code GET /actuator/jfr?minutes=N} streams the last N minutes (default 5) of the continuous recording as a
+ * .jfr file for JDK Mission Control or {@code jfr print}. The temporary file is removed once it has been sent.
+ * Only one dump runs at a time; concurrent calls get 429.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrDumpEndpoint {
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    private final AtomicBoolean dumping = new AtomicBoolean();
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) throws Exception {
+        if (!flightRecorderService.isRecording()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+
+        Duration last = Duration.ofMinutes(minutes != null ? Math.max(minutes, 1) : 5);
+        if (last.compareTo(flightRecorderService.getMaxAge()) > 0) {
+            last = flightRecorderService.getMaxAge();
+        }
+        if (!dumping.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            return new WebEndpointResponse<>(new TemporaryFileResource(flightRecorderService.dump(last)));
+        } finally {
+            dumping.set(false);
+        }
+    }
+
+    private static final class TemporaryFileResource extends FileSystemResource {
+        private final Path path;
+
+        TemporaryFileResource(Path path) {
+            super(path);
+            this.path = path;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            };
+        }
+    }
+}
\ No newline at end of file
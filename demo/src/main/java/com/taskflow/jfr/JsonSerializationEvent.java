@@ -0,0 +1,24 @@
+package com.taskflow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskflow.JsonSerialization")
+@Label("JSON Serialization")
+@Category({"TaskFlow", "HTTP"})
+@Description("Response body written by Jackson, including the time spent flushing it to the client")
+@StackTrace(false)
+public class JsonSerializationEvent extends Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
\ No newline at end of file
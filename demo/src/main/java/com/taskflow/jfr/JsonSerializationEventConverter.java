@@ -0,0 +1,79 @@
+package com.taskflow.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Jackson converter that emits a {@link JsonSerializationEvent} with the size of each response body it writes.
+ */
+public class JsonSerializationEventConverter extends MappingJackson2HttpMessageConverter {
+
+    public JsonSerializationEventConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        JsonSerializationEvent event = new JsonSerializationEvent();
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        event.begin();
+        super.writeInternal(object, type, counting);
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = describe(object);
+            event.bytes = counting.count;
+            event.commit();
+        }
+    }
+
+    private static String describe(Object object) {
+        if (object instanceof Collection<?> collection) {
+            return collection.isEmpty() ? "[]" : collection.iterator().next().getClass().getSimpleName() + "[]";
+        }
+        return object.getClass().getSimpleName();
+    }
+
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage delegate;
+        private long count;
+
+        CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    count++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    count += len;
+                }
+            };
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.taskflow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskflow.JwtVerification")
+@Label("JWT Verification")
+@Category({"TaskFlow", "Security"})
+@Description("Signature, token type and revocation checks of a bearer token")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    public static final String VALID = "VALID";
+    public static final String EXPIRED = "EXPIRED";
+    public static final String INVALID = "INVALID";
+    public static final String WRONG_TYPE = "WRONG_TYPE";
+    public static final String REVOKED = "REVOKED";
+
+    @Label("Outcome")
+    public String outcome;
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.taskflow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskflow.RepositoryCall")
+@Label("Repository Call")
+@Category({"TaskFlow", "Persistence"})
+@Description("Spring Data repository method with the number of rows returned or modified")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Rows returned, or affected by a modifying query; -1 when the call failed")
+    public long rows;
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.taskflow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskflow.Request")
+@Label("HTTP Request")
+@Category({"TaskFlow", "HTTP"})
+@Description("Servlet request from the first filter until the response is complete")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "tasks_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @jakarta.persistence.Column(nullable = false)
+    private String title;
+
+    @jakarta.persistence.Column(length = 1000)
+    private String description;
+
+    @jakarta.persistence.Column(name = "column_id", nullable = false)
+    private Long columnId;
+
+    @jakarta.persistence.Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Enumerated(EnumType.STRING)
+    @jakarta.persistence.Column(nullable = false)
+    private Task.Priority priority;
+
+    @ElementCollection
+    @CollectionTable(name = "task_tags_archive", joinColumns = @JoinColumn(name = "task_id"))
+    @jakarta.persistence.Column(name = "tag")
+    private List<String> tags = new ArrayList<>();
+
+    @jakarta.persistence.Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @jakarta.persistence.Column(name = "task_order")
+    private Integer order;
+
+    @jakarta.persistence.Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @jakarta.persistence.Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @jakarta.persistence.Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
\ No newline at end of file
@@ -40,6 +40,12 @@ public class Board {
     @JsonIgnore
     private List<com.taskflow.model.Column> columns = new ArrayList<>();
 
+    @jakarta.persistence.Column(nullable = false)
+    private Long version = 0L;
+
+    @jakarta.persistence.Column(nullable = false)
+    private boolean template;
+
     @CreatedDate
     @jakarta.persistence.Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,40 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "board_members")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @jakarta.persistence.Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @jakarta.persistence.Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @jakarta.persistence.Column(nullable = false, length = 16)
+    private Role role;
+
+    @jakarta.persistence.Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Ordered by privilege. OWNER is derived from {@code boards.owner_id} and cannot be granted.
+     */
+    public enum Role {
+        VIEWER, EDITOR, ADMIN, OWNER
+    }
+}
\ No newline at end of file
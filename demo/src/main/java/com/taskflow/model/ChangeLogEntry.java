@@ -0,0 +1,29 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "change_log")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @jakarta.persistence.Column(name = "cache_name", nullable = false, length = 32)
+    private String cacheName;
+
+    @jakarta.persistence.Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+
+    @jakarta.persistence.Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -31,6 +31,9 @@ public class Column {
     @jakarta.persistence.Column(name = "column_order")
     private Integer order;
 
+    @jakarta.persistence.Column(nullable = false)
+    private boolean done;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
     @JsonIgnore
@@ -0,0 +1,23 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @jakarta.persistence.Column(length = 36)
+    private String jti;
+
+    @jakarta.persistence.Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
\ No newline at end of file
@@ -63,6 +63,9 @@ public class Task {
     @jakarta.persistence.Column(name = "task_order")
     private Integer order;
 
+    @jakarta.persistence.Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     @CreatedDate
     @jakarta.persistence.Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
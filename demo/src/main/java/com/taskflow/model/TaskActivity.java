@@ -0,0 +1,43 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_activity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @jakarta.persistence.Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @jakarta.persistence.Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @jakarta.persistence.Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @jakarta.persistence.Column(nullable = false, length = 32)
+    private Type type;
+
+    @jakarta.persistence.Column(length = 1000)
+    private String detail;
+
+    @jakarta.persistence.Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Type {
+        CREATED, MOVED, PRIORITY_CHANGED, EDITED, DELETED, ARCHIVED, RESTORED
+    }
+}
\ No newline at end of file
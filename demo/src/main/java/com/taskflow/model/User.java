@@ -1,5 +1,6 @@
 package com.taskflow.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -24,10 +25,10 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @jakarta.persistence.Column(unique = true, nullable = false)
+    @jakarta.persistence.Column(nullable = false)
     private String username;
 
-    @jakarta.persistence.Column(unique = true, nullable = false)
+    @jakarta.persistence.Column(nullable = false)
     private String email;
 
     @jakarta.persistence.Column(nullable = false)
@@ -36,6 +37,10 @@ public class User {
     @jakarta.persistence.Column(name = "full_name")
     private String fullName;
 
+    @JsonIgnore
+    @jakarta.persistence.Column(nullable = false)
+    private boolean operator;
+
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Board> boards = new ArrayList<>();
 
@@ -0,0 +1,18 @@
+package com.taskflow.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueTask {
+    private Long taskId;
+    private Long boardId;
+    private Long ownerId;
+    private String title;
+    private LocalDate dueDate;
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.taskflow.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel. Each level holds {@code wheelSize} buckets of {@code tickMs};
+ * expirations beyond a level's interval spill into a lazily created overflow level whose tick is the
+ * whole interval of the level below. Insertion and cancellation are O(1).
+ * <p>
+ * Not thread-safe; callers must serialize access.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket<T>[] buckets;
+    private long currentTime;
+    private HierarchicalTimingWheel<T> overflowWheel;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Places the entry in the wheel. Returns {@code false} if it is already due, in which case the
+     * caller is responsible for firing it.
+     */
+    public boolean add(Entry<T> entry) {
+        long expiration = entry.expirationMs;
+        if (expiration < currentTime + tickMs) {
+            return false;
+        }
+        if (expiration < currentTime + interval) {
+            long virtualId = expiration / tickMs;
+            buckets[(int) (virtualId % wheelSize)].add(entry);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel.add(entry);
+    }
+
+    /**
+     * Moves the clock forward to {@code nowMs}. Every entry whose bucket comes due is detached and
+     * handed to {@code reinsert}, which should {@link #add} it again and fire it if that fails; entries
+     * cascading down from overflow levels land in finer buckets that way.
+     */
+    public void advance(long nowMs, Consumer<Entry<T>> reinsert) {
+        while (nowMs >= currentTime + tickMs) {
+            currentTime += tickMs;
+            if (overflowWheel != null) {
+                overflowWheel.advance(currentTime, reinsert);
+            }
+            buckets[(int) ((currentTime / tickMs) % wheelSize)].drainTo(reinsert);
+        }
+    }
+
+    public static final class Entry<T> {
+        private final long expirationMs;
+        private final T value;
+        private Bucket<T> bucket;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        public Entry(long expirationMs, T value) {
+            this.expirationMs = expirationMs;
+            this.value = value;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public void cancel() {
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+    }
+
+    private static final class Bucket<T> {
+        private final Entry<T> root = new Entry<>(-1L, null);
+
+        Bucket() {
+            root.prev = root;
+            root.next = root;
+        }
+
+        void add(Entry<T> entry) {
+            entry.cancel();
+            entry.bucket = this;
+            entry.next = root;
+            entry.prev = root.prev;
+            root.prev.next = entry;
+            root.prev = entry;
+        }
+
+        void remove(Entry<T> entry) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+
+        void drainTo(Consumer<Entry<T>> consumer) {
+            Entry<T> head = root.next;
+            root.prev = root;
+            root.next = root;
+            while (head != root) {
+                Entry<T> next = head.next;
+                head.prev = null;
+                head.next = null;
+                head.bucket = null;
+                consumer.accept(head);
+                head = next;
+            }
+        }
+    }
+}
\ No newline at end of file
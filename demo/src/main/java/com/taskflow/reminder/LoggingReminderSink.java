@@ -0,0 +1,15 @@
+package com.taskflow.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void publish(ReminderEvent event) {
+        log.info("{} task {} \"{}\" (board {}, user {}) due {}", event.getType(), event.getTaskId(),
+                event.getTitle(), event.getBoardId(), event.getOwnerId(), event.getDueDate());
+    }
+}
\ No newline at end of file
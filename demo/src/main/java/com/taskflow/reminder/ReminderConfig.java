@@ -0,0 +1,15 @@
+package com.taskflow.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReminderConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public ReminderSink loggingReminderSink() {
+        return new LoggingReminderSink();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.taskflow.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderEvent {
+    private Type type;
+    private Long taskId;
+    private Long boardId;
+    private Long ownerId;
+    private String title;
+    private LocalDate dueDate;
+    private Instant firedAt;
+
+    public enum Type {
+        DUE_SOON, OVERDUE
+    }
+}
\ No newline at end of file
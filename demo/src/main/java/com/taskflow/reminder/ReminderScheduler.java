@@ -0,0 +1,298 @@
+package com.taskflow.reminder;
+
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps due-soon and overdue reminders for tasks due within a rolling horizon in a timing wheel.
+ * Only the horizon is ever resident: it is filled through an index range scan on {@code due_date}
+ * and extended one slice at a time as days pass, while task mutations patch it incrementally.
+ * Tasks in a done column get no reminders; moving one there cancels whatever it had scheduled.
+ */
+@Service
+@Lazy(false)
+public class ReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ReminderSink reminderSink;
+
+    @Value("${reminder.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminder.tick-ms:60000}")
+    private long tickMs;
+
+    @Value("${reminder.wheel-size:60}")
+    private int wheelSize;
+
+    @Value("${reminder.horizon-days:2}")
+    private int horizonDays;
+
+    @Value("${reminder.due-soon-lead-hours:24}")
+    private long dueSoonLeadHours;
+
+    @Value("${reminder.load-batch-size:500}")
+    private int loadBatchSize;
+
+    private final Clock clock = Clock.systemDefaultZone();
+    private final ZoneId zone = clock.getZone();
+    private final Map<Long, Pending[]> scheduled = new HashMap<>();
+    private HierarchicalTimingWheel<ReminderEvent> wheel;
+    private LocalDate loadedThrough;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, clock.millis());
+            LocalDate today = LocalDate.now(clock);
+            loadRange(today, today.plusDays(horizonDays));
+        }
+        log.info("Reminder scheduler started with {} tasks due through {}", scheduledCount(), loadedThrough);
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.tick-ms:60000}")
+    public void tick() {
+        List<ReminderEvent> due = new ArrayList<>();
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            wheel.advance(clock.millis(), entry -> {
+                if (!wheel.add(entry)) {
+                    due.add(entry.getValue());
+                }
+            });
+            for (ReminderEvent event : due) {
+                release(event);
+            }
+            LocalDate horizon = LocalDate.now(clock).plusDays(horizonDays);
+            if (horizon.isAfter(loadedThrough)) {
+                loadRange(loadedThrough.plusDays(1), horizon);
+            }
+        }
+        Instant now = clock.instant();
+        for (ReminderEvent event : due) {
+            event.setFiredAt(now);
+            try {
+                reminderSink.publish(event);
+            } catch (Exception e) {
+                log.error("Reminder sink failed for task {}", event.getTaskId(), e);
+            }
+        }
+    }
+
+    public void onTaskSaved(Task task) {
+        Long ownerId = task.getBoard().getOwner().getId();
+        LocalDate dueDate = task.getColumn().isDone() ? null : task.getDueDate();
+        onTaskSaved(new DueTask(task.getId(), task.getBoard().getId(), ownerId, task.getTitle(), dueDate));
+    }
+
+    public void onTaskSaved(DueTask task) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (wheel == null) {
+                    return;
+                }
+                cancel(task.getTaskId());
+                if (task.getDueDate() != null && !task.getDueDate().isAfter(loadedThrough)) {
+                    schedule(task);
+                }
+            }
+        });
+    }
+
+    public void onTasksChanged(List<Long> taskIds) {
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+        }
+        for (int from = 0; from < taskIds.size(); from += loadBatchSize) {
+            List<Long> chunk = List.copyOf(taskIds.subList(from, Math.min(taskIds.size(), from + loadBatchSize)));
+            List<DueTask> due = taskRepository.findDueByIds(chunk);
+            afterCommit(() -> {
+                synchronized (this) {
+                    chunk.forEach(this::cancel);
+                    for (DueTask task : due) {
+                        if (!task.getDueDate().isAfter(loadedThrough)) {
+                            schedule(task);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    public void onBoardCopied(Long boardId) {
+        LocalDate through;
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            through = loadedThrough;
+        }
+        List<DueTask> due = taskRepository.findDueByBoardId(boardId, through);
+        afterCommit(() -> {
+            synchronized (this) {
+                for (DueTask task : due) {
+                    cancel(task.getTaskId());
+                    schedule(task);
+                }
+            }
+        });
+    }
+
+    public void onTaskDeleted(Long taskId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (wheel != null) {
+                    cancel(taskId);
+                }
+            }
+        });
+    }
+
+    public void onBoardDeleted(Long boardId) {
+        afterCommit(() -> removeBoard(boardId));
+    }
+
+    private synchronized void removeBoard(Long boardId) {
+        if (wheel == null) {
+            return;
+        }
+        Iterator<Pending[]> it = scheduled.values().iterator();
+        while (it.hasNext()) {
+            Pending[] entries = it.next();
+            if (boardId.equals(entries[0].event.getBoardId())) {
+                for (Pending entry : entries) {
+                    entry.cancel();
+                }
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized int scheduledCount() {
+        return scheduled.size();
+    }
+
+    /**
+     * Mutations call in before their transaction commits; the wheel only changes once it has, so a rollback
+     * leaves it untouched.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void loadRange(LocalDate from, LocalDate to) {
+        Pageable page = PageRequest.of(0, loadBatchSize);
+        Slice<DueTask> slice;
+        do {
+            slice = taskRepository.findDueBetween(from, to, page);
+            for (DueTask task : slice) {
+                cancel(task.getTaskId());
+                schedule(task);
+            }
+            page = slice.nextPageable();
+        } while (slice.hasNext());
+        loadedThrough = to;
+    }
+
+    private void schedule(DueTask task) {
+        long overdueAt = task.getDueDate().plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        long dueSoonAt = task.getDueDate().atStartOfDay(zone).toInstant().toEpochMilli() - dueSoonLeadHours * 3_600_000L;
+
+        long now = clock.millis();
+        long earliest = wheel.getCurrentTime() + tickMs;
+        List<Pending> entries = new ArrayList<>(2);
+        if (dueSoonAt > now) {
+            entries.add(new Pending(Math.max(dueSoonAt, earliest), event(ReminderEvent.Type.DUE_SOON, task)));
+        }
+        if (overdueAt > now) {
+            entries.add(new Pending(Math.max(overdueAt, earliest), event(ReminderEvent.Type.OVERDUE, task)));
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        for (Pending entry : entries) {
+            wheel.add(entry.entry);
+        }
+        scheduled.put(task.getTaskId(), entries.toArray(new Pending[0]));
+    }
+
+    private void cancel(Long taskId) {
+        Pending[] entries = scheduled.remove(taskId);
+        if (entries != null) {
+            for (Pending entry : entries) {
+                entry.cancel();
+            }
+        }
+    }
+
+    private void release(ReminderEvent fired) {
+        Pending[] entries = scheduled.get(fired.getTaskId());
+        if (entries != null && entries[entries.length - 1].event == fired) {
+            scheduled.remove(fired.getTaskId());
+        }
+    }
+
+    private static ReminderEvent event(ReminderEvent.Type type, DueTask task) {
+        return new ReminderEvent(type, task.getTaskId(), task.getBoardId(), task.getOwnerId(), task.getTitle(),
+                task.getDueDate(), null);
+    }
+
+    private static final class Pending {
+        private final ReminderEvent event;
+        private final HierarchicalTimingWheel.Entry<ReminderEvent> entry;
+
+        Pending(long at, ReminderEvent event) {
+            this.event = event;
+            this.entry = new HierarchicalTimingWheel.Entry<>(at, event);
+        }
+
+        void cancel() {
+            entry.cancel();
+        }
+    }
+}
\ No newline at end of file
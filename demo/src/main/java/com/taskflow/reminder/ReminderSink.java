@@ -0,0 +1,5 @@
+package com.taskflow.reminder;
+
+public interface ReminderSink {
+    void publish(ReminderEvent event);
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.ArchivedTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+    List<ArchivedTask> findByBoardIdAndIdLessThanOrderByIdDesc(Long boardId, Long beforeId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "insert into tasks_archive (id, title, description, column_id, board_id, priority, due_date, " +
+            "task_order, created_at, updated_at, completed_at, archived_at) " +
+            "select id, title, description, column_id, board_id, priority, due_date, task_order, created_at, " +
+            "updated_at, completed_at, :now from tasks where id in (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "insert into task_tags_archive (task_id, tag) select task_id, tag from task_tags " +
+            "where task_id in (:ids)", nativeQuery = true)
+    int copyFromTaskTags(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "insert into tasks (id, title, description, column_id, board_id, priority, due_date, task_order, " +
+            "created_at, updated_at, completed_at) " +
+            "select id, title, description, column_id, board_id, priority, due_date, task_order, created_at, :now, " +
+            "case when completed_at is null then null else :now end from tasks_archive where id in (:ids)",
+            nativeQuery = true)
+    int copyToTasks(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "insert into task_tags (task_id, tag) select task_id, tag from task_tags_archive " +
+            "where task_id in (:ids)", nativeQuery = true)
+    int copyToTaskTags(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from task_tags_archive where task_id in (:ids)", nativeQuery = true)
+    int deleteTags(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from tasks_archive where id in (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from task_tags_archive where task_id in (select id from tasks_archive where board_id = :boardId)",
+            nativeQuery = true)
+    int deleteTagsByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query(value = "delete from tasks_archive where board_id = :boardId", nativeQuery = true)
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.BoardMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BoardMemberRepository extends JpaRepository<BoardMember, Long> {
+    @Query("select m from BoardMember m where m.boardId = :boardId order by m.userId")
+    List<BoardMember> findByBoardId(@Param("boardId") Long boardId);
+
+    @Query("select m from BoardMember m where m.boardId = :boardId and m.userId = :userId")
+    Optional<BoardMember> findByBoardIdAndUserId(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    @Query("select m.userId from BoardMember m where m.boardId = :boardId")
+    List<Long> findUserIdsByBoardId(@Param("boardId") Long boardId);
+
+    @Query(value = "select id, 'OWNER' from boards where owner_id = :userId " +
+            "union all select board_id, role from board_members where user_id = :userId", nativeQuery = true)
+    List<Object[]> findAccessByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from BoardMember m where m.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
\ No newline at end of file
@@ -2,10 +2,29 @@ package com.taskflow.repository;
 
 import com.taskflow.model.Board;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
-    List<Board> findByOwner_Id(Long ownerId);
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
+    @Query(value = "select b.* from boards b where b.owner_id = :userId and b.template = false " +
+            "union all select b.* from board_members m join boards b on b.id = m.board_id " +
+            "where m.user_id = :userId and b.template = false", nativeQuery = true)
+    List<Board> findAccessibleByUserId(@Param("userId") Long userId);
+
+    @Query("select b from Board b where b.owner.id = :ownerId and b.template = true")
+    List<Board> findTemplatesByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("update Board b set b.version = b.version + 1 where b.id = :boardId")
+    int incrementVersion(@Param("boardId") Long boardId);
+
+    @Query("select b.owner.id from Board b where b.id = :boardId")
+    Long findOwnerId(@Param("boardId") Long boardId);
+
+    @Query("select b.version from Board b where b.id = :boardId")
+    Long findVersion(@Param("boardId") Long boardId);
 }
\ No newline at end of file
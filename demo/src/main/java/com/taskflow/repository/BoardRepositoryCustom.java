@@ -0,0 +1,12 @@
+package com.taskflow.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BoardRepositoryCustom {
+    List<String> SELECTABLE_FIELDS = List.of("id", "name", "description", "createdAt", "updatedAt");
+    List<String> SUMMARY_FIELDS = List.of("id", "name");
+
+    List<Map<String, Object>> findFieldsByUserId(Long userId, Collection<String> fields);
+}
\ No newline at end of file
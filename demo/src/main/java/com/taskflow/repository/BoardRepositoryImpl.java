@@ -0,0 +1,50 @@
+package com.taskflow.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private static final Map<String, String> PATHS = Map.of(
+            "id", "b.id",
+            "name", "b.name",
+            "description", "b.description",
+            "createdAt", "b.createdAt",
+            "updatedAt", "b.updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(Long userId, Collection<String> fields) {
+        StringJoiner select = new StringJoiner(", ");
+        for (String field : fields) {
+            select.add(PATHS.get(field) + " as " + field);
+        }
+
+        List<Tuple> rows = entityManager.createQuery(
+                        "select " + select + " from Board b where b.owner.id = :userId and b.template = false " +
+                                "union all select " + select + " from BoardMember m join Board b on b.id = m.boardId " +
+                                "where m.userId = :userId and b.template = false", Tuple.class)
+                .setParameter("userId", userId)
+                .getResultList();
+
+        List<Map<String, Object>> boards = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> board = new LinkedHashMap<>();
+            for (String field : fields) {
+                board.put(field, row.get(field));
+            }
+            boards.add(board);
+        }
+        return boards;
+    }
+}
\ No newline at end of file
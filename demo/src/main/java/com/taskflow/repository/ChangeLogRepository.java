@@ -0,0 +1,26 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query("select coalesce(max(c.id), 0) from ChangeLogEntry c")
+    Long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("delete from ChangeLogEntry c where c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
\ No newline at end of file
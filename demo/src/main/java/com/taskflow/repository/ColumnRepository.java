@@ -2,10 +2,22 @@ package com.taskflow.repository;
 
 import com.taskflow.model.Column;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ColumnRepository extends JpaRepository<Column, Long> {
-    List<Column> findByBoard_IdOrderByOrderAsc(Long boardId);
+    @Query("select c from Column c where c.board.id = :boardId order by c.order asc")
+    List<Column> findByBoard_IdOrderByOrderAsc(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query(value = "insert into columns (name, column_order, done, board_id, created_at, copied_from_id) " +
+            "select name, column_order, done, :targetBoardId, :now, id from columns where board_id = :sourceBoardId",
+            nativeQuery = true)
+    int copyColumns(@Param("sourceBoardId") Long sourceBoardId, @Param("targetBoardId") Long targetBoardId,
+                    @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.TaskActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+    List<TaskActivity> findByTaskIdAndIdLessThanOrderByIdDesc(Long taskId, Long beforeId, Pageable pageable);
+    List<TaskActivity> findByBoardIdAndIdLessThanOrderByIdDesc(Long boardId, Long beforeId, Pageable pageable);
+}
\ No newline at end of file
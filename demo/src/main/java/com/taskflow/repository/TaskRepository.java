@@ -1,12 +1,92 @@
 package com.taskflow.repository;
 
 import com.taskflow.model.Task;
+import com.taskflow.reminder.DueTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByBoard_IdOrderByOrderAsc(Long boardId);
-    List<Task> findByColumn_IdOrderByOrderAsc(Long columnId);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    @Query("select t from Task t where t.board.id = :boardId order by t.order asc")
+    List<Task> findByBoard_IdOrderByOrderAsc(@Param("boardId") Long boardId);
+
+    @Query("select t from Task t where t.column.id = :columnId order by t.order asc")
+    List<Task> findByColumn_IdOrderByOrderAsc(@Param("columnId") Long columnId);
+
+    @Query("select new com.taskflow.reminder.DueTask(t.id, b.id, b.owner.id, t.title, t.dueDate) " +
+            "from Task t join t.board b join t.column c " +
+            "where t.dueDate between :from and :to and c.done = false order by t.dueDate, t.id")
+    Slice<DueTask> findDueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Query("select new com.taskflow.reminder.DueTask(t.id, b.id, b.owner.id, t.title, t.dueDate) " +
+            "from Task t join t.board b join t.column c " +
+            "where t.id in :ids and t.dueDate is not null and c.done = false")
+    List<DueTask> findDueByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.taskflow.reminder.DueTask(t.id, t.board.id, b.owner.id, t.title, t.dueDate) " +
+            "from Task t join t.board b join t.column c where t.board.id = :boardId and t.dueDate <= :to " +
+            "and c.done = false")
+    List<DueTask> findDueByBoardId(@Param("boardId") Long boardId, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("update Task t set t.priority = :priority, t.updatedAt = :now where t.id in :ids")
+    int updatePriority(@Param("ids") Collection<Long> ids, @Param("priority") Task.Priority priority,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Task t set t.dueDate = :dueDate, t.updatedAt = :now where t.id in :ids")
+    int updateDueDate(@Param("ids") Collection<Long> ids, @Param("dueDate") LocalDate dueDate,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Task t set t.column.id = :columnId, t.updatedAt = :now, " +
+            "t.completedAt = case when :done = true then coalesce(t.completedAt, :now) else null end where t.id in :ids")
+    int updateColumn(@Param("ids") Collection<Long> ids, @Param("columnId") Long columnId,
+                     @Param("done") boolean done, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "insert into tasks (title, description, column_id, board_id, priority, due_date, task_order, " +
+            "created_at, completed_at, copied_from_id) " +
+            "select t.title, t.description, c.id, :targetBoardId, t.priority, t.due_date, t.task_order, :now, " +
+            "case when c.done = true and :template = false then :now else null end, t.id " +
+            "from tasks t join columns c on c.board_id = :targetBoardId and c.copied_from_id = t.column_id " +
+            "where t.board_id = :sourceBoardId", nativeQuery = true)
+    int copyTasks(@Param("sourceBoardId") Long sourceBoardId, @Param("targetBoardId") Long targetBoardId,
+                  @Param("template") boolean template, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "insert into task_tags (task_id, tag) select t.id, tt.tag from tasks t " +
+            "join task_tags tt on tt.task_id = t.copied_from_id where t.board_id = :targetBoardId", nativeQuery = true)
+    int copyTags(@Param("targetBoardId") Long targetBoardId);
+
+    @Query(value = "select id, board_id from tasks where completed_at < :cutoff order by completed_at limit :limit " +
+            "for update", nativeQuery = true)
+    List<Object[]> lockCompletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "insert into task_tags (task_id, tag) select t.id, :tag from tasks t where t.id in (:ids) " +
+            "and not exists (select 1 from task_tags tt where tt.task_id = t.id and tt.tag = :tag)", nativeQuery = true)
+    int addTag(@Param("ids") Collection<Long> ids, @Param("tag") String tag);
+
+    @Modifying
+    @Query(value = "delete from task_tags where task_id in (:ids) and tag = :tag", nativeQuery = true)
+    int removeTag(@Param("ids") Collection<Long> ids, @Param("tag") String tag);
+
+    @Modifying
+    @Query(value = "delete from task_tags where task_id in (:ids)", nativeQuery = true)
+    int deleteTags(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface TaskRepositoryCustom {
+    List<String> SELECTABLE_FIELDS = List.of("id", "title", "description", "columnId", "boardId", "priority",
+            "tags", "dueDate", "order", "createdAt", "updatedAt");
+    List<String> SUMMARY_FIELDS = List.of("id", "title", "columnId", "priority");
+
+    List<Map<String, Object>> findFieldsByBoardId(Long boardId, Collection<String> fields);
+
+    List<Long> findIdsByBoardIdMatching(Long boardId, Collection<Long> ids, Long columnId, Task.Priority priority,
+                                        String tag, LocalDate dueBefore, LocalDate dueAfter);
+}
\ No newline at end of file
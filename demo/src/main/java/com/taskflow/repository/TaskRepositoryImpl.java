@@ -0,0 +1,110 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final Map<String, String> PATHS = Map.of(
+            "id", "t.id",
+            "title", "t.title",
+            "description", "t.description",
+            "columnId", "t.column.id",
+            "boardId", "t.board.id",
+            "priority", "t.priority",
+            "dueDate", "t.dueDate",
+            "order", "t.order",
+            "createdAt", "t.createdAt",
+            "updatedAt", "t.updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByBoardId(Long boardId, Collection<String> fields) {
+        StringJoiner select = new StringJoiner(", ");
+        for (String field : fields) {
+            String path = PATHS.get(field);
+            if (path != null) {
+                select.add(path + " as " + field);
+            }
+        }
+
+        List<Tuple> rows = entityManager.createQuery(
+                        "select " + select + " from Task t where t.board.id = :boardId order by t.order asc", Tuple.class)
+                .setParameter("boardId", boardId)
+                .getResultList();
+
+        List<Map<String, Object>> tasks = new ArrayList<>(rows.size());
+        Map<Object, Map<String, Object>> byId = new HashMap<>();
+        for (Tuple row : rows) {
+            Map<String, Object> task = new LinkedHashMap<>();
+            for (String field : fields) {
+                task.put(field, PATHS.containsKey(field) ? row.get(field) : new ArrayList<>());
+            }
+            tasks.add(task);
+            byId.put(task.get("id"), task);
+        }
+
+        if (fields.contains("tags") && !tasks.isEmpty()) {
+            List<Object[]> tags = entityManager.createQuery(
+                            "select t.id, tag from Task t join t.tags tag where t.board.id = :boardId", Object[].class)
+                    .setParameter("boardId", boardId)
+                    .getResultList();
+            for (Object[] tag : tags) {
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List<Object>) byId.get(tag[0]).get("tags");
+                list.add(tag[1]);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public List<Long> findIdsByBoardIdMatching(Long boardId, Collection<Long> ids, Long columnId, Task.Priority priority,
+                                               String tag, LocalDate dueBefore, LocalDate dueAfter) {
+        StringBuilder jpql = new StringBuilder("select t.id from Task t where t.board.id = :boardId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("boardId", boardId);
+        if (ids != null) {
+            jpql.append(" and t.id in :ids");
+            parameters.put("ids", ids);
+        }
+        if (columnId != null) {
+            jpql.append(" and t.column.id = :columnId");
+            parameters.put("columnId", columnId);
+        }
+        if (priority != null) {
+            jpql.append(" and t.priority = :priority");
+            parameters.put("priority", priority);
+        }
+        if (tag != null) {
+            jpql.append(" and :tag member of t.tags");
+            parameters.put("tag", tag);
+        }
+        if (dueBefore != null) {
+            jpql.append(" and t.dueDate < :dueBefore");
+            parameters.put("dueBefore", dueBefore);
+        }
+        if (dueAfter != null) {
+            jpql.append(" and t.dueDate > :dueAfter");
+            parameters.put("dueAfter", dueAfter);
+        }
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.taskflow.security;
+
+import com.taskflow.cache.LocalCache;
+import com.taskflow.datasource.PrimaryReads;
+import com.taskflow.jfr.AuthorizationEvent;
+import com.taskflow.model.BoardMember;
+import com.taskflow.repository.BoardMemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Boards each user may access, kept in memory so authorization is a lookup rather than a membership query.
+ * A user's entry is a sorted array of board ids with a parallel array of roles, loaded by one indexed query
+ * and dropped through the change log whenever that user's ownerships or memberships change.
+ */
+@Service
+public class BoardAccessIndex {
+
+    private static final BoardMember.Role[] ROLES = BoardMember.Role.values();
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    @Autowired
+    private LocalCache<Long, BoardAccess> boardAccessCache;
+
+    public BoardMember.Role getRole(Long userId, Long boardId) {
+        return boardAccessCache.get(userId, this::load).getRole(boardId);
+    }
+
+    public boolean hasRole(Long userId, Long boardId, BoardMember.Role required) {
+        AuthorizationEvent event = new AuthorizationEvent();
+        event.begin();
+        BoardMember.Role role = getRole(userId, boardId);
+        boolean granted = role != null && role.compareTo(required) >= 0;
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = userId;
+            event.boardId = boardId;
+            event.requiredRole = required.name();
+            event.granted = granted;
+            event.commit();
+        }
+        return granted;
+    }
+
+    private BoardAccess load(Long userId) {
+        List<Object[]> rows = primaryReads.get(() -> boardMemberRepository.findAccessByUserId(userId));
+        rows.sort(Comparator.comparingLong(row -> ((Number) row[0]).longValue()));
+
+        long[] boardIds = new long[rows.size()];
+        byte[] roles = new byte[rows.size()];
+        for (int i = 0; i < boardIds.length; i++) {
+            boardIds[i] = ((Number) rows.get(i)[0]).longValue();
+            roles[i] = (byte) BoardMember.Role.valueOf(rows.get(i)[1].toString()).ordinal();
+        }
+        return new BoardAccess(boardIds, roles);
+    }
+
+    public static final class BoardAccess {
+        private final long[] boardIds;
+        private final byte[] roles;
+
+        BoardAccess(long[] boardIds, byte[] roles) {
+            this.boardIds = boardIds;
+            this.roles = roles;
+        }
+
+        public BoardMember.Role getRole(long boardId) {
+            int i = Arrays.binarySearch(boardIds, boardId);
+            return i >= 0 ? ROLES[roles[i]] : null;
+        }
+    }
+}
\ No newline at end of file
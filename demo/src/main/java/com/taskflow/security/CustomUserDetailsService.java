@@ -1,14 +1,17 @@
 package com.taskflow.security;
 
-import com.taskflow.model.User;
+import com.taskflow.cache.LocalCache;
+import com.taskflow.datasource.PrimaryReads;
 import com.taskflow.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -16,15 +19,27 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    @Autowired
+    private LocalCache<String, UserDetails> userDetailsCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                new ArrayList<>()
-        );
+        UserDetails cached = userDetailsCache.get(username, name -> primaryReads.get(() ->
+                        userRepository.findByUsername(name))
+                .map(user -> new org.springframework.security.core.userdetails.User(
+                        user.getUsername(),
+                        user.getPassword(),
+                        user.isOperator() ? List.of(new SimpleGrantedAuthority("ROLE_OPERATOR")) : new ArrayList<>()
+                ))
+                .orElse(null));
+        if (cached == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+
+        // authentication erases credentials on the instance it is handed, so never return the cached one
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.taskflow.security;
 
+import com.taskflow.jfr.JwtVerificationEvent;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +27,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
@@ -31,26 +37,36 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
-        String jwt = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
+            JwtVerificationEvent event = new JwtVerificationEvent();
+            event.begin();
             try {
-                username = jwtUtil.extractUsername(jwt);
+                Claims claims = jwtUtil.extractAllClaims(jwt);
+                if (!JwtUtil.ACCESS_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM))) {
+                    event.outcome = JwtVerificationEvent.WRONG_TYPE;
+                } else if (tokenRevocationService.isRevoked(claims.getId())) {
+                    event.outcome = JwtVerificationEvent.REVOKED;
+                } else {
+                    event.outcome = JwtVerificationEvent.VALID;
+                    username = claims.getSubject();
+                }
             } catch (Exception e) {
+                event.outcome = e instanceof ExpiredJwtException ? JwtVerificationEvent.EXPIRED
+                        : JwtVerificationEvent.INVALID;
                 logger.error("Error extracting username from JWT", e);
             }
+            event.commit();
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         chain.doFilter(request, response);
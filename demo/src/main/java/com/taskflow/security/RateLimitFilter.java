@@ -0,0 +1,58 @@
+package com.taskflow.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        if (!rateLimiter.isEnabled() || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Category category;
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            category = RateLimiter.Category.AUTH;
+        } else if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            category = RateLimiter.Category.READ;
+        } else {
+            category = RateLimiter.Category.WRITE;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long waitNanos = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken) && category != RateLimiter.Category.AUTH
+                ? rateLimiter.tryAcquire(category, authentication.getName(), request.getRemoteAddr())
+                : rateLimiter.tryAcquire(category, request.getRemoteAddr());
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(429);
+            response.setHeader("Retry-After", Long.toString(retryAfter));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"message\":\"Too many requests\"}");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+}
\ No newline at end of file
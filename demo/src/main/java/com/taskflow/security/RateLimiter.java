@@ -0,0 +1,173 @@
+package com.taskflow.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-key token buckets for each request category. Idle buckets are full and are swept away, which
+ * keeps the maps bounded by the number of recently active clients; if a map still hits its cap,
+ * further new keys share one overflow bucket for that category.
+ * <p>
+ * Signed-in requests are also counted against their remote address, with the per-user limit scaled by
+ * {@code ratelimit.ip-factor}, so one address cannot multiply its budget by cycling through accounts
+ * while an office or NAT behind one address still has room for several users.
+ */
+@Component
+@Lazy(false)
+public class RateLimiter {
+
+    public enum Category {
+        READ, WRITE, AUTH
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ratelimit.read.capacity:100}")
+    private long readCapacity;
+
+    @Value("${ratelimit.read.per-second:50}")
+    private double readPerSecond;
+
+    @Value("${ratelimit.write.capacity:30}")
+    private long writeCapacity;
+
+    @Value("${ratelimit.write.per-second:10}")
+    private double writePerSecond;
+
+    @Value("${ratelimit.auth.capacity:10}")
+    private long authCapacity;
+
+    @Value("${ratelimit.auth.per-second:0.5}")
+    private double authPerSecond;
+
+    @Value("${ratelimit.ip-factor:5}")
+    private double ipFactor;
+
+    @Value("${ratelimit.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<Category, Limit> limits = new EnumMap<>(Category.class);
+    private final Map<Category, Limit> addressLimits = new EnumMap<>(Category.class);
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        limits.put(Category.READ, new Limit(Category.READ, "client", readCapacity, readPerSecond));
+        limits.put(Category.WRITE, new Limit(Category.WRITE, "client", writeCapacity, writePerSecond));
+        limits.put(Category.AUTH, new Limit(Category.AUTH, "client", authCapacity, authPerSecond));
+        addressLimits.put(Category.READ, new Limit(Category.READ, "address",
+                Math.round(readCapacity * ipFactor), readPerSecond * ipFactor));
+        addressLimits.put(Category.WRITE, new Limit(Category.WRITE, "address",
+                Math.round(writeCapacity * ipFactor), writePerSecond * ipFactor));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns 0 if the request is admitted, otherwise the nanoseconds the client should wait.
+     */
+    public long tryAcquire(Category category, String key) {
+        Limit limit = limits.get(category);
+        long now = System.nanoTime();
+        long wait = bucket(limit, key, now).tryConsume(now, limit.emissionIntervalNanos, limit.burstNanos);
+        if (wait > 0) {
+            limit.rejected.increment();
+        }
+        return wait;
+    }
+
+    /**
+     * Like {@link #tryAcquire(Category, String)} for a signed-in user, but the request must also fit the
+     * larger budget of the address it comes from. When the user's own bucket rejects the request the
+     * address gets its token back, so one user at their limit does not drain the address for the rest.
+     */
+    public long tryAcquire(Category category, String username, String address) {
+        Limit addressLimit = addressLimits.get(category);
+        if (addressLimit == null) {
+            return tryAcquire(category, address);
+        }
+        long now = System.nanoTime();
+        TokenBucket addressBucket = bucket(addressLimit, address, now);
+        long wait = addressBucket.tryConsume(now, addressLimit.emissionIntervalNanos, addressLimit.burstNanos);
+        if (wait > 0) {
+            addressLimit.rejected.increment();
+            return wait;
+        }
+        wait = tryAcquire(category, username);
+        if (wait > 0) {
+            addressBucket.refund(addressLimit.emissionIntervalNanos);
+        }
+        return wait;
+    }
+
+    private TokenBucket bucket(Limit limit, String key, long now) {
+        TokenBucket bucket = limit.buckets.get(key);
+        if (bucket == null) {
+            if (limit.buckets.size() >= maxKeys) {
+                sweep(now);
+            }
+            bucket = limit.buckets.size() < maxKeys
+                    ? limit.buckets.computeIfAbsent(key, k -> new TokenBucket(now))
+                    : limit.overflow;
+        }
+        return bucket;
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.sweep-interval-ms:30000}")
+    public void sweep() {
+        sweep(System.nanoTime());
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (Limit limit : limits.values()) {
+                limit.buckets.values().removeIf(bucket -> bucket.isIdle(now));
+            }
+            for (Limit limit : addressLimits.values()) {
+                limit.buckets.values().removeIf(bucket -> bucket.isIdle(now));
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private final class Limit {
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow = new TokenBucket(System.nanoTime());
+        private final Counter rejected;
+
+        Limit(Category category, String scope, long capacity, double perSecond) {
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+            this.burstNanos = emissionIntervalNanos * capacity;
+            Tags tags = Tags.of("category", category.name().toLowerCase(), "scope", scope);
+            this.rejected = Counter.builder("taskflow.ratelimit.rejected")
+                    .tags(tags)
+                    .register(meterRegistry);
+            meterRegistry.gaugeMapSize("taskflow.ratelimit.buckets", tags, buckets);
+        }
+    }
+}
\ No newline at end of file
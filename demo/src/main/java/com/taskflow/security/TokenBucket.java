@@ -0,0 +1,45 @@
+package com.taskflow.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in GCRA form: the whole state is one "theoretical arrival time" that each
+ * admitted request pushes forward by one emission interval. A bucket whose arrival time is in the
+ * past is full, so it carries no information and can be discarded.
+ */
+public class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Returns 0 if a token was taken, otherwise the nanoseconds until one becomes available.
+     */
+    public long tryConsume(long nowNanos, long emissionIntervalNanos, long burstNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryConsume}, e.g. when a second limit rejected the request.
+     */
+    public void refund(long emissionIntervalNanos) {
+        theoreticalArrival.addAndGet(-emissionIntervalNanos);
+    }
+
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.taskflow.security;
+
+import com.taskflow.cache.ChangeLog;
+import com.taskflow.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Tracks revoked token ids. Every request is screened against an in-memory Bloom filter; only a
+ * filter hit costs a database lookup. The filter is rebuilt from the revoked_tokens table at startup
+ * and periodically after expired rows are pruned, since Bloom filters cannot forget entries.
+ * Revocations reach the filters of other instances through the change log; the poller is initialized
+ * first so that nothing committed between its starting point and the initial rebuild is missed.
+ */
+@Service
+@Lazy(false)
+@DependsOn("changeLogPoller")
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private BloomFilter rebuilding;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        rebuild();
+        changeLog.addListener(ChangeLog.REVOCATIONS, this::remember);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return true;
+        }
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    /**
+     * Revokes the token id and returns true, or returns false if it was already revoked (or has no id or
+     * has expired). The insert is the only check, so concurrent callers cannot both succeed.
+     */
+    public boolean revoke(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.before(new Date())) {
+            return false;
+        }
+        try {
+            // the change log entry adds the id to this filter after commit and to the others when polled
+            transactionTemplate.executeWithoutResult(status -> {
+                revokedTokenRepository.insert(jti,
+                        LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()));
+                changeLog.record(ChangeLog.REVOCATIONS, jti);
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-ms:600000}",
+            initialDelayString = "${jwt.revocation.prune-interval-ms:600000}")
+    public void prune() {
+        int removed = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (removed > 0) {
+            rebuild();
+        }
+    }
+
+    private synchronized void remember(String jti) {
+        filter.put(jti);
+        if (rebuilding != null) {
+            rebuilding.put(jti);
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long active = revokedTokenRepository.count();
+        BloomFilter next = new BloomFilter(Math.max(expectedEntries, active * 2), falsePositiveRate);
+        synchronized (this) {
+            rebuilding = next;
+        }
+        int loaded = 0;
+        Pageable page = PageRequest.of(0, 5000);
+        Slice<String> slice;
+        do {
+            slice = revokedTokenRepository.findActiveJtis(now, page);
+            for (String jti : slice) {
+                next.put(jti);
+                loaded++;
+            }
+            page = slice.nextPageable();
+        } while (slice.hasNext());
+        synchronized (this) {
+            filter = next;
+            rebuilding = null;
+        }
+        log.info("Token revocation filter rebuilt with {} revoked tokens", loaded);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.taskflow.service;
+
+import com.taskflow.activity.ActivityEvent;
+import com.taskflow.activity.ActivityRecorder;
+import com.taskflow.cache.ChangeLog;
+import com.taskflow.model.ArchivedTask;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskActivity;
+import com.taskflow.model.User;
+import com.taskflow.reminder.ReminderScheduler;
+import com.taskflow.repository.ArchivedTaskRepository;
+import com.taskflow.repository.BoardRepository;
+import com.taskflow.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves tasks that have been in a done column for longer than {@code archive.done-after-days} from
+ * tasks/task_tags into tasks_archive/task_tags_archive. Each batch is locked, copied and deleted in its
+ * own transaction, so the hot tables and their indexes stay proportional to active work.
+ */
+@Service
+@Lazy(false)
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.done-after-days:30}")
+    private int doneAfterDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${archive.initial-delay-ms:60000}", fixedDelayString = "${archive.interval-ms:3600000}")
+    public void archiveDoneTasks() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(doneAfterDays);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+    }
+
+    @Transactional
+    public Task restore(ArchivedTask archived, User user) {
+        List<Long> ids = List.of(archived.getId());
+        LocalDateTime now = LocalDateTime.now();
+        archivedTaskRepository.copyToTasks(ids, now);
+        archivedTaskRepository.copyToTaskTags(ids);
+        archivedTaskRepository.deleteTags(ids);
+        archivedTaskRepository.deleteByIds(ids);
+        boardRepository.incrementVersion(archived.getBoardId());
+        changeLog.record(ChangeLog.TASKS, archived.getBoardId());
+
+        reminderScheduler.onTasksChanged(ids);
+        activityRecorder.record(archived.getId(), archived.getBoardId(), user.getId(), TaskActivity.Type.RESTORED,
+                "Restored from archive");
+        return taskRepository.findById(archived.getId())
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Object[]> rows = taskRepository.lockCompletedBefore(cutoff, batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(rows.size());
+        Map<Long, Long> boardIds = new HashMap<>();
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            ids.add(id);
+            boardIds.put(id, ((Number) row[1]).longValue());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        archivedTaskRepository.copyFromTasks(ids, now);
+        archivedTaskRepository.copyFromTaskTags(ids);
+        taskRepository.deleteTags(ids);
+        taskRepository.deleteByIds(ids);
+        for (Long boardId : new HashSet<>(boardIds.values())) {
+            boardRepository.incrementVersion(boardId);
+            changeLog.record(ChangeLog.TASKS, boardId);
+        }
+
+        String detail = "Done for more than " + doneAfterDays + " days";
+        List<ActivityEvent> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            reminderScheduler.onTaskDeleted(id);
+            events.add(new ActivityEvent(id, boardIds.get(id), null, TaskActivity.Type.ARCHIVED, detail, now));
+        }
+        activityRecorder.recordBatch(events);
+        return ids.size();
+    }
+}
\ No newline at end of file
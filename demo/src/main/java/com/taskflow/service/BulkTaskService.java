@@ -0,0 +1,202 @@
+package com.taskflow.service;
+
+import com.taskflow.activity.ActivityEvent;
+import com.taskflow.activity.ActivityRecorder;
+import com.taskflow.cache.ChangeLog;
+import com.taskflow.dto.BulkTaskRequest;
+import com.taskflow.dto.BulkTaskResponse;
+import com.taskflow.model.Board;
+import com.taskflow.model.Column;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskActivity;
+import com.taskflow.model.User;
+import com.taskflow.reminder.ReminderScheduler;
+import com.taskflow.repository.BoardRepository;
+import com.taskflow.repository.ColumnRepository;
+import com.taskflow.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies one operation to many tasks of a board with set-based statements. Target ids are resolved
+ * with a single query and mutated in chunks, so the statement count grows with ids / CHUNK_SIZE
+ * rather than with the number of tasks.
+ */
+@Service
+public class BulkTaskService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Transactional
+    public BulkTaskResponse apply(Board board, User user, BulkTaskRequest request) {
+        if (request.getOperation() == null) {
+            throw new IllegalArgumentException("operation is required");
+        }
+        if (request.getTaskIds() == null && request.getFilter() == null) {
+            throw new IllegalArgumentException("taskIds or filter is required");
+        }
+
+        Task.Priority priority = null;
+        LocalDate dueDate = null;
+        Column column = null;
+        String tag = null;
+        switch (request.getOperation()) {
+            case SET_PRIORITY:
+                priority = Task.Priority.valueOf(required(request.getValue()));
+                break;
+            case SET_DUE_DATE:
+                dueDate = request.getValue() == null || request.getValue().isEmpty()
+                        ? null : parseDate(request.getValue());
+                break;
+            case MOVE_TO_COLUMN:
+                column = columnRepository.findById(Long.valueOf(required(request.getValue())))
+                        .orElseThrow(() -> new IllegalArgumentException("Column not found"));
+                if (!column.getBoard().getId().equals(board.getId())) {
+                    throw new IllegalArgumentException("Column does not belong to this board");
+                }
+                break;
+            case ADD_TAG:
+            case REMOVE_TAG:
+                tag = required(request.getValue());
+                break;
+            default:
+                break;
+        }
+
+        List<Long> ids = resolveIds(board.getId(), request);
+        LocalDateTime now = LocalDateTime.now();
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            switch (request.getOperation()) {
+                case SET_PRIORITY:
+                    affected += taskRepository.updatePriority(chunk, priority, now);
+                    break;
+                case SET_DUE_DATE:
+                    affected += taskRepository.updateDueDate(chunk, dueDate, now);
+                    break;
+                case MOVE_TO_COLUMN:
+                    affected += taskRepository.updateColumn(chunk, column.getId(), column.isDone(), now);
+                    break;
+                case ADD_TAG:
+                    affected += taskRepository.addTag(chunk, tag);
+                    break;
+                case REMOVE_TAG:
+                    affected += taskRepository.removeTag(chunk, tag);
+                    break;
+                case DELETE:
+                    taskRepository.deleteTags(chunk);
+                    affected += taskRepository.deleteByIds(chunk);
+                    break;
+            }
+        }
+
+        if (affected > 0) {
+            boardRepository.incrementVersion(board.getId());
+            changeLog.record(ChangeLog.TASKS, board.getId());
+        }
+        Long version = boardRepository.findVersion(board.getId());
+
+        if (request.getOperation() == BulkTaskRequest.Operation.SET_DUE_DATE) {
+            reminderScheduler.onTasksChanged(ids);
+        } else if (request.getOperation() == BulkTaskRequest.Operation.DELETE) {
+            ids.forEach(reminderScheduler::onTaskDeleted);
+        }
+        recordActivity(board, user, request, ids, column);
+
+        return new BulkTaskResponse(request.getOperation(), ids.size(), affected, version);
+    }
+
+    private List<Long> resolveIds(Long boardId, BulkTaskRequest request) {
+        BulkTaskRequest.Filter filter = request.getFilter() != null ? request.getFilter() : new BulkTaskRequest.Filter();
+        if (request.getTaskIds() == null) {
+            return taskRepository.findIdsByBoardIdMatching(boardId, null, filter.getColumnId(), filter.getPriority(),
+                    filter.getTag(), filter.getDueBefore(), filter.getDueAfter());
+        }
+        List<Long> ids = new ArrayList<>();
+        List<Long> requested = request.getTaskIds();
+        for (int from = 0; from < requested.size(); from += CHUNK_SIZE) {
+            ids.addAll(taskRepository.findIdsByBoardIdMatching(boardId,
+                    requested.subList(from, Math.min(requested.size(), from + CHUNK_SIZE)), filter.getColumnId(),
+                    filter.getPriority(), filter.getTag(), filter.getDueBefore(), filter.getDueAfter()));
+        }
+        return ids;
+    }
+
+    private void recordActivity(Board board, User user, BulkTaskRequest request, List<Long> ids, Column column) {
+        TaskActivity.Type type;
+        String detail;
+        switch (request.getOperation()) {
+            case SET_PRIORITY:
+                type = TaskActivity.Type.PRIORITY_CHANGED;
+                detail = "Bulk: priority " + request.getValue();
+                break;
+            case MOVE_TO_COLUMN:
+                type = TaskActivity.Type.MOVED;
+                detail = "Bulk: moved to " + column.getName();
+                break;
+            case DELETE:
+                type = TaskActivity.Type.DELETED;
+                detail = "Bulk delete";
+                break;
+            case ADD_TAG:
+                type = TaskActivity.Type.EDITED;
+                detail = "Bulk: added tag " + request.getValue();
+                break;
+            case REMOVE_TAG:
+                type = TaskActivity.Type.EDITED;
+                detail = "Bulk: removed tag " + request.getValue();
+                break;
+            default:
+                type = TaskActivity.Type.EDITED;
+                detail = "Bulk: dueDate " + request.getValue();
+                break;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<ActivityEvent> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            events.add(new ActivityEvent(id, board.getId(), user.getId(), type, detail, now));
+        }
+        activityRecorder.recordBatch(events);
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    private static String required(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("value is required for this operation");
+        }
+        return value;
+    }
+}
\ No newline at end of file
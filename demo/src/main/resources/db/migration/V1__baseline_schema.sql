@@ -0,0 +1,77 @@
+-- Schema as previously generated by hibernate ddl-auto=update, including its constraint names. Existing
+-- databases are baselined at this version (spring.flyway.baseline-on-migrate) and only receive the later
+-- migrations.
+
+create table users (
+    id bigint auto_increment primary key,
+    username varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    full_name varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table boards (
+    id bigint auto_increment primary key,
+    name varchar(255) not null,
+    description varchar(500),
+    owner_id bigint not null,
+    version bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint FKbng8kmryb5aa0r8p2yq4x2l5l foreign key (owner_id) references users (id)
+);
+
+create table columns (
+    id bigint auto_increment primary key,
+    name varchar(255) not null,
+    column_order integer,
+    board_id bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint FKiylg7oiwdt1tnoff75rkbihc0 foreign key (board_id) references boards (id)
+);
+
+create table tasks (
+    id bigint auto_increment primary key,
+    title varchar(255) not null,
+    description varchar(1000),
+    column_id bigint not null,
+    board_id bigint not null,
+    priority varchar(255) not null,
+    due_date date,
+    task_order integer,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint FKleqsyhtos46wpnhh7a1lpn38q foreign key (column_id) references columns (id),
+    constraint FKitp79nb81vimv715wd9t8cjmf foreign key (board_id) references boards (id)
+);
+
+create table task_tags (
+    task_id bigint not null,
+    tag varchar(255),
+    constraint FK7xi1reghkj37gqwlr1ujxrxll foreign key (task_id) references tasks (id)
+);
+
+create table task_activity (
+    id bigint auto_increment primary key,
+    task_id bigint not null,
+    board_id bigint not null,
+    user_id bigint,
+    type varchar(32) not null,
+    detail varchar(1000),
+    created_at timestamp(6) not null
+);
+
+create table revoked_tokens (
+    jti varchar(36) not null primary key,
+    expires_at timestamp(6) not null
+);
+
+create index idx_tasks_due_date on tasks (due_date);
+create index idx_task_activity_task on task_activity (task_id, id);
+create index idx_task_activity_board on task_activity (board_id, id);
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
@@ -0,0 +1,21 @@
+-- One index per listing query: equality columns first, then the ORDER BY column, so each lookup is a
+-- range scan that already returns rows in order.
+
+-- TaskRepository.findByBoard_IdOrderByOrderAsc, findFieldsByBoardId, findIdsByBoardIdMatching
+create index idx_tasks_board_order on tasks (board_id, task_order);
+
+-- TaskRepository.findByColumn_IdOrderByOrderAsc
+create index idx_tasks_column_order on tasks (column_id, task_order);
+
+-- TaskRepository.findDueBetween orders by (due_date, id) for stable slices
+create index idx_tasks_due_date_id on tasks (due_date, id);
+drop index idx_tasks_due_date on tasks;
+
+-- ColumnRepository.findByBoard_IdOrderByOrderAsc
+create index idx_columns_board_order on columns (board_id, column_order);
+
+-- BoardRepository.findByOwner_Id, findFieldsByOwnerId
+create index idx_boards_owner on boards (owner_id);
+
+-- Task.tags collection loads, tag filters and the bulk tag statements
+create index idx_task_tags_task_tag on task_tags (task_id, tag);
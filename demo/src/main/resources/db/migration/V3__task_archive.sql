@@ -0,0 +1,31 @@
+-- Done columns and completion time, so tasks that have been done for a while can be moved to cold storage.
+alter table columns add done boolean default false not null;
+update columns set done = true where name = 'Done';
+
+alter table tasks add completed_at timestamp(6);
+update tasks set completed_at = coalesce(updated_at, created_at)
+    where column_id in (select id from columns where done = true);
+create index idx_tasks_completed_at on tasks (completed_at);
+
+-- Archived tasks keep their ids; rows move back to tasks/task_tags unchanged on restore.
+create table tasks_archive (
+    id bigint not null primary key,
+    title varchar(255) not null,
+    description varchar(1000),
+    column_id bigint not null,
+    board_id bigint not null,
+    priority varchar(255) not null,
+    due_date date,
+    task_order integer,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    completed_at timestamp(6),
+    archived_at timestamp(6) not null
+);
+create index idx_tasks_archive_board on tasks_archive (board_id, id);
+
+create table task_tags_archive (
+    task_id bigint not null,
+    tag varchar(255)
+);
+create index idx_task_tags_archive_task on task_tags_archive (task_id);
@@ -0,0 +1,7 @@
+-- Boards saved as templates are cloned into regular boards and hidden from the board list.
+alter table boards add template boolean default false not null;
+
+-- Set on rows created by a board clone to the id of the row they were copied from. Clone statements join
+-- on it to remap column and task ids inside INSERT ... SELECT.
+alter table columns add copied_from_id bigint;
+alter table tasks add copied_from_id bigint;
@@ -0,0 +1,9 @@
+-- Outbox of cache invalidations, written in the same transaction as the mutation and tailed by id on
+-- every instance.
+create table change_log (
+    id bigint auto_increment primary key,
+    cache_name varchar(32) not null,
+    cache_key varchar(255) not null,
+    created_at timestamp(6) not null
+);
+create index idx_change_log_created_at on change_log (created_at);
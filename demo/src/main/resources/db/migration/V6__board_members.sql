@@ -0,0 +1,12 @@
+-- Users a board is shared with. The owner is implied by boards.owner_id and never has a row here.
+create table board_members (
+    id bigint auto_increment primary key,
+    board_id bigint not null,
+    user_id bigint not null,
+    role varchar(16) not null,
+    created_at timestamp(6) not null,
+    constraint uk_board_members_board_user unique (board_id, user_id),
+    constraint fk_board_members_board foreign key (board_id) references boards (id),
+    constraint fk_board_members_user foreign key (user_id) references users (id)
+);
+create index idx_board_members_user_board on board_members (user_id, board_id);
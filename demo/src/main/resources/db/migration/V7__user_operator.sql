@@ -0,0 +1,3 @@
+-- Operators may use the actuator endpoints other than health. There is no API for it; grant it directly:
+--   update users set operator = true where username = '...';
+alter table users add operator boolean default false not null;
@@ -0,0 +1,10 @@
+-- Heartbeat row written on the primary and read back from the replica to estimate replication lag.
+-- Databases that ran the earlier runtime-created version already have the table.
+create table if not exists replication_heartbeat (
+    id int primary key,
+    beat_at timestamp not null
+);
+-- An old beat, so the replica is not trusted before the first real heartbeat
+insert into replication_heartbeat (id, beat_at)
+    select 1, timestamp '2000-01-01 00:00:00' from dual
+    where not exists (select 1 from replication_heartbeat where id = 1);
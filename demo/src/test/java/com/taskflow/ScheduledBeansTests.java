@@ -0,0 +1,54 @@
+package com.taskflow;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The fast-startup profile turns on lazy initialization, under which a bean that nothing depends on is never
+ * created and its {@code @Scheduled} methods never run.
+ */
+@SpringBootTest(properties = {
+        "spring.main.lazy-initialization=true",
+        "spring.datasource.url=jdbc:h2:mem:lazy-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.url=jdbc:h2:mem:lazy-replica;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.username=sa",
+        "spring.datasource.replica.password="
+})
+class ScheduledBeansTests {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void scheduledBeansAreCreatedUnderLazyInitialization() {
+        List<String> scheduled = new ArrayList<>();
+        List<String> notCreated = new ArrayList<>();
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type = beanFactory.getType(name, false);
+            if (type == null || MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                    (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty()) {
+                continue;
+            }
+            scheduled.add(name);
+            if (!beanFactory.containsSingleton(name)) {
+                notCreated.add(name);
+            }
+        }
+
+        assertFalse(scheduled.isEmpty());
+        assertEquals(List.of(), notCreated);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.taskflow.activity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedRingQueueTests {
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        for (int requested : new int[] {1, 2, 3, 5, 1000}) {
+            int capacity = new BoundedRingQueue<>(requested).capacity();
+            assertTrue(capacity >= requested && Integer.bitCount(capacity) == 1, requested + " -> " + capacity);
+        }
+        assertEquals(8, new BoundedRingQueue<>(8).capacity());
+        assertEquals(16, new BoundedRingQueue<>(9).capacity());
+        assertEquals(8192, new BoundedRingQueue<>(8192).capacity());
+    }
+
+    @Test
+    void emptyQueueReturnsNothing() {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(4);
+        assertNull(queue.poll());
+        assertEquals(0, queue.drainTo(new ArrayList<>(), 10));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void fullQueueRejectsUntilDrained() {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+        assertFalse(queue.offer(5));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(List.of(1, 2), drained);
+        assertEquals(2, queue.drainTo(drained, 10));
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void orderIsKeptAcrossManyWraps() {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(4);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 1000; round++) {
+            while (queue.offer(next)) {
+                next++;
+            }
+            for (int i = 0; i < 1 + round % 4; i++) {
+                assertEquals(expected++, queue.poll());
+            }
+        }
+        Integer element;
+        while ((element = queue.poll()) != null) {
+            assertEquals(expected++, element);
+        }
+        assertEquals(next, expected);
+    }
+
+    @Test
+    void concurrentProducersLoseNothing() throws Exception {
+        int producers = 8;
+        int perProducer = 50_000;
+        BoundedRingQueue<Long> queue = new BoundedRingQueue<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> producing = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            producing.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(producer << 32 | i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        List<Long> batch = new ArrayList<>();
+        int received = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            queue.drainTo(batch, 256);
+            for (long element : batch) {
+                int producer = (int) (element >>> 32);
+                int sequence = (int) element;
+                // elements from one producer come out in the order they went in
+                assertEquals(lastSeen[producer] + 1, sequence);
+                lastSeen[producer] = sequence;
+            }
+            received += batch.size();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(producers * perProducer, received);
+        for (Future<?> future : producing) {
+            future.get();
+        }
+        for (int sequence : lastSeen) {
+            assertEquals(perProducer - 1, sequence);
+        }
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+package com.taskflow.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.TaskFlowApplication;
+import com.taskflow.model.Board;
+import com.taskflow.model.Column;
+import com.taskflow.model.User;
+import com.taskflow.repository.BoardRepository;
+import com.taskflow.repository.ChangeLogRepository;
+import com.taskflow.repository.ColumnRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.TokenRevocationService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application contexts standing in for two instances behind a load balancer, sharing one file-backed
+ * H2 database. Scheduled polling is effectively disabled so each test drives {@link ChangeLogPoller#poll()}.
+ */
+class ChangeLogMultiContextTests {
+
+    private static final HttpClient HTTP = HttpClient.newHttpClient();
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static Path directory;
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() throws Exception {
+        directory = Files.createTempDirectory("changelog");
+        String url = "jdbc:h2:file:" + directory.resolve("taskflow").toAbsolutePath() + ";DB_CLOSE_DELAY=-1";
+        first = start(url);
+        second = start(url);
+    }
+
+    @AfterAll
+    static void stopInstances() throws Exception {
+        second.close();
+        first.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Test
+    void boardDeletionInvalidatesOtherInstanceAfterPoll() throws Exception {
+        String token = register(first, "owner").get("token").asText();
+        long boardId = JSON.readTree(call(first, "POST", "/api/boards", token, "{\"name\":\"Doomed\"}").body())
+                .get("id").asLong();
+        HttpResponse<String> columns = call(second, "GET", "/api/boards/" + boardId + "/columns", token, null);
+        assertEquals(200, columns.statusCode());
+        assertEquals("To Do", JSON.readTree(columns.body()).get(0).get("name").asText());
+
+        assertEquals(200, call(first, "DELETE", "/api/boards/" + boardId, token, null).statusCode());
+
+        BoardCache secondCache = second.getBean(BoardCache.class);
+        assertEquals(3, secondCache.getColumns(boardId).size());
+        assertNotNull(secondCache.getOwnerId(boardId));
+
+        second.getBean(ChangeLogPoller.class).poll();
+        assertTrue(secondCache.getColumns(boardId).isEmpty());
+        assertNull(secondCache.getOwnerId(boardId));
+    }
+
+    @Test
+    void userRegisteredOnOneInstanceAuthenticatesOnTheOther() throws Exception {
+        String username = "user-" + UUID.randomUUID();
+        UserDetailsService secondUsers = second.getBean(UserDetailsService.class);
+        assertThrows(UsernameNotFoundException.class, () -> secondUsers.loadUserByUsername(username));
+
+        HttpResponse<String> registered = call(first, "POST", "/api/auth/register", null, "{\"username\":\""
+                + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"pw\"}");
+        assertEquals(200, registered.statusCode());
+        String token = JSON.readTree(registered.body()).get("token").asText();
+
+        // misses are not cached, so the new user is visible without waiting for a poll
+        assertEquals(200, call(second, "GET", "/api/boards", token, null).statusCode());
+        assertEquals(username, secondUsers.loadUserByUsername(username).getUsername());
+    }
+
+    @Test
+    void lateCommitBelowWatermarkIsNotSkipped() throws Exception {
+        Long boardId = inTransaction(first, () -> createBoard(first));
+        BoardCache secondCache = second.getBean(BoardCache.class);
+        ChangeLogPoller secondPoller = second.getBean(ChangeLogPoller.class);
+        secondPoller.poll();
+
+        AtomicLong slowEntryId = new AtomicLong();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowWriter = new Thread(() -> inTransaction(first, () -> {
+            ColumnRepository columns = first.getBean(ColumnRepository.class);
+            Column column = columns.findByBoard_IdOrderByOrderAsc(boardId).get(0);
+            column.setName("Slow");
+            columns.save(column);
+            first.getBean(ChangeLog.class).record(ChangeLog.COLUMNS, boardId);
+            slowEntryId.set(first.getBean(ChangeLogRepository.class).findMaxId());
+            recorded.countDown();
+            await(release);
+            return null;
+        }));
+        slowWriter.start();
+        assertTrue(recorded.await(10, TimeUnit.SECONDS));
+
+        inTransaction(first, () -> createBoard(first));
+        assertEquals("To Do", secondCache.getColumns(boardId).get(0).getName());
+        secondPoller.poll();
+        assertTrue(secondPoller.getWatermark() < slowEntryId.get(), "watermark moved past an uncommitted entry");
+
+        release.countDown();
+        slowWriter.join(10_000);
+        secondPoller.poll();
+        assertEquals("Slow", secondCache.getColumns(boardId).get(0).getName());
+    }
+
+    @Test
+    void revocationReachesOtherInstanceAfterPoll() {
+        TokenRevocationService firstTokens = first.getBean(TokenRevocationService.class);
+        TokenRevocationService secondTokens = second.getBean(TokenRevocationService.class);
+        String jti = UUID.randomUUID().toString();
+        Date expiresAt = new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5));
+
+        assertTrue(firstTokens.revoke(jti, expiresAt));
+        assertTrue(firstTokens.isRevoked(jti));
+        assertFalse(secondTokens.isRevoked(jti));
+
+        second.getBean(ChangeLogPoller.class).poll();
+        assertTrue(secondTokens.isRevoked(jti));
+        assertFalse(secondTokens.revoke(jti, expiresAt));
+    }
+
+    @Test
+    void concurrentRevocationSucceedsOnce() throws Exception {
+        String jti = UUID.randomUUID().toString();
+        Date expiresAt = new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5));
+        List<TokenRevocationService> services = List.of(first.getBean(TokenRevocationService.class),
+                second.getBean(TokenRevocationService.class));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                TokenRevocationService service = services.get(i % 2);
+                results.add(executor.submit(() -> {
+                    await(start);
+                    return service.revoke(jti, expiresAt);
+                }));
+            }
+            start.countDown();
+            int revoked = 0;
+            for (Future<Boolean> result : results) {
+                revoked += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(1, revoked);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void removedMemberLosesAccessOnOtherInstanceAfterPoll() throws Exception {
+        JsonNode owner = register(first, "owner");
+        JsonNode member = register(first, "member");
+        String ownerToken = owner.get("token").asText();
+        String memberToken = member.get("token").asText();
+        long boardId = JSON.readTree(call(first, "POST", "/api/boards", ownerToken, "{\"name\":\"Shared\"}").body())
+                .get("id").asLong();
+        String grant = "{\"username\":\"" + member.get("user").get("username").asText() + "\",\"role\":\"EDITOR\"}";
+        assertEquals(200, call(first, "PUT", "/api/boards/" + boardId + "/members", ownerToken, grant).statusCode());
+        second.getBean(ChangeLogPoller.class).poll();
+        assertEquals(200, call(second, "GET", "/api/boards/" + boardId, memberToken, null).statusCode());
+
+        long memberId = member.get("user").get("id").asLong();
+        assertEquals(200, call(first, "DELETE", "/api/boards/" + boardId + "/members/" + memberId, ownerToken, null)
+                .statusCode());
+        assertEquals(403, call(first, "GET", "/api/boards/" + boardId, memberToken, null).statusCode());
+        assertEquals(200, call(second, "GET", "/api/boards/" + boardId, memberToken, null).statusCode());
+
+        second.getBean(ChangeLogPoller.class).poll();
+        assertEquals(403, call(second, "GET", "/api/boards/" + boardId, memberToken, null).statusCode());
+    }
+
+    private static JsonNode register(ConfigurableApplicationContext context, String name) throws Exception {
+        String username = name + "-" + UUID.randomUUID();
+        HttpResponse<String> response = call(context, "POST", "/api/auth/register", null, "{\"username\":\""
+                + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"pw\"}");
+        assertEquals(200, response.statusCode());
+        return JSON.readTree(response.body());
+    }
+
+    private static HttpResponse<String> call(ConfigurableApplicationContext context, String method, String path,
+                                             String token, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:"
+                        + context.getEnvironment().getProperty("local.server.port") + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static ConfigurableApplicationContext start(String url) {
+        return new SpringApplicationBuilder(TaskFlowApplication.class).run(
+                "--spring.datasource.url=" + url,
+                "--server.port=0",
+                "--spring.devtools.restart.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--reminder.enabled=false",
+                "--archive.enabled=false",
+                "--ratelimit.enabled=false",
+                "--changelog.poll-interval-ms=3600000",
+                "--changelog.gap-timeout-ms=3600000");
+    }
+
+    private static Long createBoard(ConfigurableApplicationContext context) {
+        Board board = new Board();
+        board.setName("board");
+        board.setOwner(createUser(context));
+        board = context.getBean(BoardRepository.class).save(board);
+
+        ColumnRepository columns = context.getBean(ColumnRepository.class);
+        List<String> names = List.of("To Do", "In Progress", "Done");
+        for (int i = 0; i < names.size(); i++) {
+            Column column = new Column();
+            column.setName(names.get(i));
+            column.setOrder(i);
+            column.setBoard(board);
+            columns.save(column);
+        }
+        context.getBean(ChangeLog.class).record(ChangeLog.BOARDS, board.getId());
+        return board.getId();
+    }
+
+    private static User createUser(ConfigurableApplicationContext context) {
+        String name = "user-" + UUID.randomUUID();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        return context.getBean(UserRepository.class).save(user);
+    }
+
+    private static <T> T inTransaction(ConfigurableApplicationContext context, Supplier<T> work) {
+        return new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .execute(status -> work.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
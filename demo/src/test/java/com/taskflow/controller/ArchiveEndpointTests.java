@@ -0,0 +1,192 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.service.ArchiveService;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive-endpoints;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "archive.initial-delay-ms=3600000",
+        "ratelimit.enabled=false"
+})
+@AutoConfigureMockMvc
+class ArchiveEndpointTests {
+
+    private static final String[] COPIED_FIELDS = {"id", "title", "description", "columnId", "boardId", "priority",
+            "dueDate", "order", "createdAt"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    private String token;
+    private long boardId;
+    private long doneColumnId;
+
+    @BeforeEach
+    void createBoard() throws Exception {
+        String username = "archive-" + UUID.randomUUID();
+        token = read(post("/api/auth/register").content("{\"username\":\"" + username + "\",\"email\":\""
+                + username + "@example.com\",\"password\":\"pw\"}")).get("token").asText();
+        boardId = read(post("/api/boards").content("{\"name\":\"Archive\"}")).get("id").asLong();
+        for (JsonNode column : read(get("/api/boards/" + boardId + "/columns"))) {
+            if (column.get("done").asBoolean()) {
+                doneColumnId = column.get("id").asLong();
+            }
+        }
+    }
+
+    @Test
+    void archivedTaskIsRestoredUnchanged() throws Exception {
+        long taskId = doneTask("Shipped", 40);
+        long recentId = doneTask("Recent", 1);
+        JsonNode original = read(get("/api/tasks/" + taskId));
+
+        archiveService.archiveDoneTasks();
+
+        JsonNode archive = read(get("/api/boards/" + boardId + "/archive"));
+        assertEquals(1, archive.size());
+        JsonNode archived = archive.get(0);
+        for (String field : COPIED_FIELDS) {
+            assertEquals(original.get(field), archived.get(field), field);
+        }
+        assertEquals(original.get("completedAt"), archived.get("completedAt"));
+        assertEquals(sorted(original.get("tags")), sorted(archived.get("tags")));
+        assertTrue(archived.hasNonNull("archivedAt"));
+        assertEquals(List.of(recentId), ids(read(get("/api/boards/" + boardId + "/tasks"))));
+        assertEquals(0, count("select count(*) from task_tags where task_id = ?", taskId));
+
+        long version = boardVersion();
+        JsonNode restored = read(post("/api/boards/" + boardId + "/archive/" + taskId + "/restore"));
+        for (String field : COPIED_FIELDS) {
+            assertEquals(original.get(field), restored.get(field), field);
+        }
+        assertEquals(List.of("customer", "release"), sorted(restored.get("tags")));
+        // the done clock restarts so that the next run does not archive the task again
+        assertTrue(LocalDateTime.parse(restored.get("completedAt").asText()).isAfter(LocalDateTime.now().minusDays(1)));
+        assertEquals(version + 1, boardVersion());
+        archiveService.archiveDoneTasks();
+        assertEquals(0, read(get("/api/boards/" + boardId + "/archive")).size());
+
+        JsonNode reloaded = read(get("/api/tasks/" + taskId));
+        for (String field : COPIED_FIELDS) {
+            assertEquals(original.get(field), reloaded.get(field), field);
+        }
+        assertEquals(List.of("customer", "release"), sorted(reloaded.get("tags")));
+        assertEquals(0, read(get("/api/boards/" + boardId + "/archive")).size());
+        assertEquals(0, count("select count(*) from task_tags_archive where task_id = ?", taskId));
+        assertEquals(List.of(taskId, recentId), ids(read(get("/api/boards/" + boardId + "/tasks"))));
+
+        assertTrue(activityTypes(taskId).contains("ARCHIVED"));
+        // the restore is recorded through the activity queue, which is flushed in the background
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!activityTypes(taskId).contains("RESTORED") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(activityTypes(taskId).contains("RESTORED"));
+    }
+
+    @Test
+    void archivedTaskIsRestoredOnlyOnce() throws Exception {
+        long taskId = doneTask("Once", 40);
+        archiveService.archiveDoneTasks();
+        read(post("/api/boards/" + boardId + "/archive/" + taskId + "/restore"));
+
+        ServletException again = assertThrows(ServletException.class, () -> mockMvc.perform(
+                authorized(post("/api/boards/" + boardId + "/archive/" + taskId + "/restore"))));
+        assertEquals("Task not found", again.getCause().getMessage());
+        assertEquals(1, count("select count(*) from tasks where id = ?", taskId));
+    }
+
+    @Test
+    void archivedTaskIsOnlyRestoredToItsOwnBoard() throws Exception {
+        long taskId = doneTask("Elsewhere", 40);
+        archiveService.archiveDoneTasks();
+        long otherBoardId = read(post("/api/boards").content("{\"name\":\"Other\"}")).get("id").asLong();
+
+        ServletException stray = assertThrows(ServletException.class, () -> mockMvc.perform(
+                authorized(post("/api/boards/" + otherBoardId + "/archive/" + taskId + "/restore"))));
+        assertEquals("Task not found", stray.getCause().getMessage());
+        assertEquals(1, read(get("/api/boards/" + boardId + "/archive")).size());
+        assertEquals(0, read(get("/api/boards/" + otherBoardId + "/tasks")).size());
+    }
+
+    private long doneTask(String title, int doneDaysAgo) throws Exception {
+        long id = read(post("/api/tasks").content("{\"boardId\":" + boardId + ",\"columnId\":" + doneColumnId
+                + ",\"title\":\"" + title + "\",\"description\":\"Notes\",\"priority\":\"HIGH\","
+                + "\"dueDate\":\"2030-02-01\",\"tags\":[\"release\",\"customer\"]}")).get("id").asLong();
+        jdbcTemplate.update("update tasks set completed_at = dateadd('DAY', ?, completed_at) where id = ?",
+                -doneDaysAgo, id);
+        return id;
+    }
+
+    private List<String> activityTypes(long taskId) throws Exception {
+        List<String> types = new ArrayList<>();
+        read(get("/api/tasks/" + taskId + "/activity")).forEach(activity -> types.add(activity.get("type").asText()));
+        return types;
+    }
+
+    private long boardVersion() throws Exception {
+        return read(get("/api/boards/" + boardId)).get("version").asLong();
+    }
+
+    private int count(String sql, long id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+
+    private static List<Long> ids(JsonNode tasks) {
+        List<Long> ids = new ArrayList<>();
+        tasks.forEach(task -> ids.add(task.get("id").asLong()));
+        ids.sort(null);
+        return ids;
+    }
+
+    private static List<String> sorted(JsonNode values) {
+        List<String> list = new ArrayList<>();
+        values.forEach(value -> list.add(value.asText()));
+        list.sort(null);
+        return list;
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(authorized(request))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        request.contentType(MediaType.APPLICATION_JSON);
+        return token == null ? request : request.header("Authorization", "Bearer " + token);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.security.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth-endpoints;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false"
+})
+@AutoConfigureMockMvc
+class AuthEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Test
+    void refreshTokenCanBeUsedOnce() throws Exception {
+        JsonNode registered = read(mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"refresh\",\"email\":\"refresh@example.com\",\"password\":\"pw\"}")));
+        String refreshToken = registered.get("refreshToken").asText();
+
+        JsonNode rotated = read(refresh(refreshToken));
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        read(refresh(rotated.get("refreshToken").asText()));
+    }
+
+    @Test
+    void logoutRevokesBothTokens() throws Exception {
+        JsonNode registered = read(mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"logout\",\"email\":\"logout@example.com\",\"password\":\"pw\"}")));
+        String token = registered.get("token").asText();
+        String refreshToken = registered.get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/boards").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void unusableAccessTokensAreUnauthorizedAndDenialsForbidden() throws Exception {
+        JsonNode owner = register("denied-owner");
+        JsonNode other = register("denied-other");
+        long boardId = read(mockMvc.perform(post("/api/boards")
+                .header("Authorization", "Bearer " + owner.get("token").asText())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Private\"}"))).get("id").asLong();
+        String expired = Jwts.builder()
+                .claim(JwtUtil.TOKEN_TYPE_CLAIM, JwtUtil.ACCESS_TOKEN)
+                .id("expired")
+                .subject("denied-owner")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        mockMvc.perform(get("/api/boards")).andExpect(status().isUnauthorized());
+        for (String token : new String[] {expired, "not-a-jwt", owner.get("refreshToken").asText()}) {
+            mockMvc.perform(get("/api/boards").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isUnauthorized());
+        }
+        mockMvc.perform(get("/api/boards/" + boardId).header("Authorization", "Bearer " + other.get("token").asText()))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode register(String username) throws Exception {
+        return read(mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"email\":\"" + username
+                        + "@example.com\",\"password\":\"pw\"}")));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    private JsonNode read(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.cache.ChangeLogPoller;
+import com.taskflow.model.BoardMember;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-authorization;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "changelog.poll-interval-ms=3600000",
+        "ratelimit.enabled=false"
+})
+@AutoConfigureMockMvc
+class BoardAuthorizationTests {
+
+    private static final AtomicLong ARCHIVED_IDS = new AtomicLong(1_000_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeLogPoller changeLogPoller;
+
+    private final Map<String, JsonNode> users = new LinkedHashMap<>();
+    private long boardId;
+    private long columnId;
+
+    @BeforeEach
+    void shareBoard() throws Exception {
+        for (String name : new String[] {"outsider", "viewer", "editor", "admin", "owner", "guest"}) {
+            users.put(name, register(name));
+        }
+        boardId = createBoard("owner");
+        columnId = firstColumn("owner", boardId);
+        grant("owner", "viewer", BoardMember.Role.VIEWER);
+        grant("owner", "editor", BoardMember.Role.EDITOR);
+        grant("owner", "admin", BoardMember.Role.ADMIN);
+    }
+
+    @Test
+    void viewerEndpointsRequireViewer() throws Exception {
+        long taskId = createTask("owner", boardId, columnId);
+        for (String path : new String[] {"", "/columns", "/tasks", "/archive", "/activity", "/members"}) {
+            expectRequiredRole(BoardMember.Role.VIEWER, () -> get("/api/boards/" + boardId + path));
+        }
+        expectRequiredRole(BoardMember.Role.VIEWER, () -> get("/api/tasks/" + taskId));
+        expectRequiredRole(BoardMember.Role.VIEWER, () -> get("/api/tasks/" + taskId + "/activity"));
+        expectRequiredRole(BoardMember.Role.VIEWER, () -> post("/api/boards/" + boardId + ":clone").content("{}"));
+    }
+
+    @Test
+    void editorEndpointsRequireEditor() throws Exception {
+        expectRequiredRole(BoardMember.Role.EDITOR, () -> post("/api/tasks").content(
+                "{\"boardId\":" + boardId + ",\"columnId\":" + columnId + ",\"title\":\"New\"}"));
+        long taskId = createTask("owner", boardId, columnId);
+        expectRequiredRole(BoardMember.Role.EDITOR, () ->
+                put("/api/tasks/" + taskId).content("{\"title\":\"Renamed\"}"));
+        expectRequiredRole(BoardMember.Role.EDITOR, () -> post("/api/boards/" + boardId + "/tasks:bulk")
+                .content("{\"operation\":\"SET_PRIORITY\",\"value\":\"HIGH\",\"filter\":{}}"));
+        expectRequiredRole(BoardMember.Role.EDITOR, () -> delete("/api/tasks/" + createTaskUnchecked()));
+        expectRequiredRole(BoardMember.Role.EDITOR, () ->
+                post("/api/boards/" + boardId + "/archive/" + archivedTask() + "/restore"));
+    }
+
+    @Test
+    void adminEndpointsRequireAdmin() throws Exception {
+        expectRequiredRole(BoardMember.Role.ADMIN, () ->
+                put("/api/boards/" + boardId).content("{\"name\":\"Renamed\"}"));
+        expectRequiredRole(BoardMember.Role.ADMIN, () -> put("/api/boards/" + boardId + "/members")
+                .content("{\"username\":\"" + username("guest") + "\",\"role\":\"VIEWER\"}"));
+    }
+
+    @Test
+    void onlyOwnerDeletesBoard() throws Exception {
+        expectRequiredRole(BoardMember.Role.OWNER, () -> delete("/api/boards/" + boardId));
+    }
+
+    @Test
+    void memberMayRemoveOnlyThemselves() throws Exception {
+        mockMvc.perform(as("viewer", delete("/api/boards/" + boardId + "/members/" + userId("editor"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(as("viewer", delete("/api/boards/" + boardId + "/members/" + userId("viewer"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(as("viewer", get("/api/boards/" + boardId))).andExpect(status().isForbidden());
+        mockMvc.perform(as("editor", get("/api/boards/" + boardId))).andExpect(status().isOk());
+    }
+
+    @Test
+    void adminCannotGrantOwnership() throws Exception {
+        mockMvc.perform(as("admin", put("/api/boards/" + boardId + "/members"))
+                        .content("{\"username\":\"" + username("guest") + "\",\"role\":\"OWNER\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Ownership cannot be granted"));
+        mockMvc.perform(as("guest", get("/api/boards/" + boardId))).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void columnFromAnotherBoardIsRejected() throws Exception {
+        long otherBoardId = createBoard("editor");
+        long otherColumnId = firstColumn("editor", otherBoardId);
+        long taskId = createTask("editor", boardId, columnId);
+
+        ServletException created = assertThrows(ServletException.class, () -> mockMvc.perform(as("editor",
+                post("/api/tasks")).content(
+                "{\"boardId\":" + boardId + ",\"columnId\":" + otherColumnId + ",\"title\":\"Stray\"}")));
+        assertEquals("Column not found", created.getCause().getMessage());
+        ServletException moved = assertThrows(ServletException.class, () -> mockMvc.perform(as("editor",
+                put("/api/tasks/" + taskId)).content("{\"columnId\":" + otherColumnId + "}")));
+        assertEquals("Column not found", moved.getCause().getMessage());
+        mockMvc.perform(as("editor", post("/api/boards/" + boardId + "/tasks:bulk")).content(
+                        "{\"operation\":\"MOVE_TO_COLUMN\",\"value\":\"" + otherColumnId + "\",\"taskIds\":["
+                                + taskId + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Column does not belong to this board"));
+
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from tasks where column_id = ?", Integer.class,
+                otherColumnId));
+        assertEquals(columnId, jdbcTemplate.queryForObject("select column_id from tasks where id = ?", Long.class,
+                taskId));
+    }
+
+    @Test
+    void removedMemberLosesAccessAfterPoll() throws Exception {
+        mockMvc.perform(as("editor", get("/api/boards/" + boardId + "/tasks"))).andExpect(status().isOk());
+
+        mockMvc.perform(as("admin", delete("/api/boards/" + boardId + "/members/" + userId("editor"))))
+                .andExpect(status().isOk());
+        changeLogPoller.poll();
+
+        mockMvc.perform(as("editor", get("/api/boards/" + boardId + "/tasks"))).andExpect(status().isForbidden());
+        mockMvc.perform(as("editor", post("/api/tasks")).content(
+                        "{\"boardId\":" + boardId + ",\"columnId\":" + columnId + ",\"title\":\"Late\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    /**
+     * Sends the request once per user, from no access up to owner, expecting 403 below {@code required} and
+     * 2xx from it upwards. The owner goes last so that a destructive request runs once it is allowed.
+     */
+    private void expectRequiredRole(BoardMember.Role required, Supplier<MockHttpServletRequestBuilder> request)
+            throws Exception {
+        mockMvc.perform(as("outsider", request.get())).andExpect(status().isForbidden());
+        for (BoardMember.Role role : new BoardMember.Role[] {BoardMember.Role.VIEWER, BoardMember.Role.EDITOR,
+                BoardMember.Role.ADMIN, BoardMember.Role.OWNER}) {
+            String user = role.name().toLowerCase();
+            if (role.compareTo(required) < 0) {
+                mockMvc.perform(as(user, request.get())).andExpect(status().isForbidden());
+            } else {
+                mockMvc.perform(as(user, request.get())).andExpect(status().is2xxSuccessful());
+            }
+        }
+    }
+
+    private JsonNode register(String name) throws Exception {
+        String username = name + "-" + UUID.randomUUID();
+        return objectMapper.readTree(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"email\":\"" + username
+                                + "@example.com\",\"password\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private long createBoard(String user) throws Exception {
+        return read(as(user, post("/api/boards")).content("{\"name\":\"Shared\"}")).get("id").asLong();
+    }
+
+    private long firstColumn(String user, long board) throws Exception {
+        return read(as(user, get("/api/boards/" + board + "/columns"))).get(0).get("id").asLong();
+    }
+
+    private long createTask(String user, long board, long column) throws Exception {
+        return read(as(user, post("/api/tasks")).content(
+                "{\"boardId\":" + board + ",\"columnId\":" + column + ",\"title\":\"Task\"}")).get("id").asLong();
+    }
+
+    private long createTaskUnchecked() {
+        try {
+            return createTask("owner", boardId, columnId);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long archivedTask() {
+        long id = ARCHIVED_IDS.incrementAndGet();
+        jdbcTemplate.update("insert into tasks_archive (id, title, column_id, board_id, priority, created_at, " +
+                "archived_at) values (?, 'Archived', ?, ?, 'LOW', current_timestamp, current_timestamp)",
+                id, columnId, boardId);
+        return id;
+    }
+
+    private void grant(String by, String user, BoardMember.Role role) throws Exception {
+        mockMvc.perform(as(by, put("/api/boards/" + boardId + "/members"))
+                        .content("{\"username\":\"" + username(user) + "\",\"role\":\"" + role + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder as(String user, MockHttpServletRequestBuilder request) {
+        return request.contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + users.get(user).get("token").asText());
+    }
+
+    private String username(String user) {
+        return users.get(user).get("user").get("username").asText();
+    }
+
+    private long userId(String user) {
+        return users.get(user).get("user").get("id").asLong();
+    }
+}
\ No newline at end of file
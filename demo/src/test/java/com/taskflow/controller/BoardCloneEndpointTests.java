@@ -0,0 +1,221 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-clone;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "ratelimit.enabled=false"
+})
+@AutoConfigureMockMvc
+class BoardCloneEndpointTests {
+
+    private static final String[] COPIED_FIELDS = {"title", "description", "priority", "dueDate", "order"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private long boardId;
+    private final Map<String, Long> columns = new HashMap<>();
+
+    @BeforeEach
+    void createBoard() throws Exception {
+        token = register("clone").get("token").asText();
+        boardId = read(post("/api/boards").content("{\"name\":\"Source\",\"description\":\"Original\"}"))
+                .get("id").asLong();
+        for (JsonNode column : read(get("/api/boards/" + boardId + "/columns"))) {
+            columns.put(column.get("name").asText(), column.get("id").asLong());
+        }
+        createTask("Open", "To Do", "\"priority\":\"HIGH\",\"dueDate\":\"2030-04-01\",\"tags\":[\"a\",\"b\"]");
+        createTask("Started", "In Progress", "\"description\":\"Halfway\"");
+        createTask("Finished", "Done", "\"tags\":[\"shipped\"]");
+    }
+
+    @Test
+    void cloneCopiesColumnsTasksAndTags() throws Exception {
+        JsonNode copy = read(post("/api/boards/" + boardId + ":clone").content("{}"));
+        long copyId = copy.get("id").asLong();
+        assertNotEquals(boardId, copyId);
+        assertEquals("Source (copy)", copy.get("name").asText());
+        assertEquals("Original", copy.get("description").asText());
+        assertFalse(copy.get("template").asBoolean());
+
+        JsonNode sourceColumns = read(get("/api/boards/" + boardId + "/columns"));
+        JsonNode copiedColumns = read(get("/api/boards/" + copyId + "/columns"));
+        assertEquals(sourceColumns.size(), copiedColumns.size());
+        Map<Long, String> copiedColumnNames = new HashMap<>();
+        for (int i = 0; i < sourceColumns.size(); i++) {
+            JsonNode source = sourceColumns.get(i);
+            JsonNode copied = copiedColumns.get(i);
+            for (String field : new String[] {"name", "order", "done"}) {
+                assertEquals(source.get(field), copied.get(field), field);
+            }
+            assertNotEquals(source.get("id").asLong(), copied.get("id").asLong());
+            assertEquals(source.get("id").asLong(), copiedFrom("columns", copied.get("id").asLong()));
+            copiedColumnNames.put(copied.get("id").asLong(), copied.get("name").asText());
+        }
+
+        Map<String, JsonNode> sourceTasks = byTitle(read(get("/api/boards/" + boardId + "/tasks")));
+        Map<String, JsonNode> copiedTasks = byTitle(read(get("/api/boards/" + copyId + "/tasks")));
+        assertEquals(sourceTasks.keySet(), copiedTasks.keySet());
+        for (JsonNode copied : copiedTasks.values()) {
+            JsonNode source = sourceTasks.get(copied.get("title").asText());
+            for (String field : COPIED_FIELDS) {
+                assertEquals(source.get(field), copied.get(field), field);
+            }
+            assertEquals(sorted(source.get("tags")), sorted(copied.get("tags")));
+            assertEquals(copyId, copied.get("boardId").asLong());
+            assertEquals(columnName(source.get("columnId").asLong()),
+                    copiedColumnNames.get(copied.get("columnId").asLong()));
+            assertEquals(source.get("id").asLong(), copiedFrom("tasks", copied.get("id").asLong()));
+        }
+        assertTrue(copiedTasks.get("Finished").hasNonNull("completedAt"));
+        assertTrue(copiedTasks.get("Open").get("completedAt").isNull());
+
+        // the source board is left as it was
+        assertEquals(3, read(get("/api/boards/" + boardId + "/tasks")).size());
+        assertEquals(List.of("a", "b"), sorted(sourceTasks.get("Open").get("tags")));
+    }
+
+    @Test
+    void cloneWithoutTasksCopiesOnlyColumns() throws Exception {
+        JsonNode copy = read(post("/api/boards/" + boardId + ":clone")
+                .content("{\"includeTasks\":false,\"name\":\"Empty\"}"));
+        long copyId = copy.get("id").asLong();
+        assertEquals("Empty", copy.get("name").asText());
+        assertEquals(3, read(get("/api/boards/" + copyId + "/columns")).size());
+        assertEquals(0, read(get("/api/boards/" + copyId + "/tasks")).size());
+    }
+
+    @Test
+    void templateRoundTrip() throws Exception {
+        JsonNode template = read(post("/api/boards/" + boardId + ":clone").content("{\"template\":true}"));
+        long templateId = template.get("id").asLong();
+        assertEquals("Source", template.get("name").asText());
+        assertTrue(template.get("template").asBoolean());
+        assertEquals(List.of(templateId), ids(read(get("/api/boards/templates"))));
+        assertFalse(ids(read(get("/api/boards"))).contains(templateId));
+
+        // template tasks are never complete, so archiving leaves them alone
+        Map<String, JsonNode> templateTasks = byTitle(read(get("/api/boards/" + templateId + "/tasks")));
+        assertEquals(3, templateTasks.size());
+        templateTasks.values().forEach(task -> assertTrue(task.get("completedAt").isNull()));
+        assertEquals(List.of("shipped"), sorted(templateTasks.get("Finished").get("tags")));
+
+        JsonNode board = read(post("/api/boards/" + templateId + ":clone").content("{}"));
+        long boardFromTemplate = board.get("id").asLong();
+        assertEquals("Source", board.get("name").asText());
+        assertFalse(board.get("template").asBoolean());
+        assertTrue(ids(read(get("/api/boards"))).contains(boardFromTemplate));
+        assertEquals(List.of(templateId), ids(read(get("/api/boards/templates"))));
+
+        Map<String, JsonNode> tasks = byTitle(read(get("/api/boards/" + boardFromTemplate + "/tasks")));
+        assertEquals(templateTasks.keySet(), tasks.keySet());
+        assertTrue(tasks.get("Finished").hasNonNull("completedAt"));
+        assertEquals(List.of("a", "b"), sorted(tasks.get("Open").get("tags")));
+        assertEquals(templateTasks.get("Open").get("id").asLong(),
+                copiedFrom("tasks", tasks.get("Open").get("id").asLong()));
+    }
+
+    @Test
+    void viewerClonesIntoTheirOwnBoard() throws Exception {
+        String owner = token;
+        JsonNode viewer = register("viewer");
+        token = owner;
+        read(put("/api/boards/" + boardId + "/members").content("{\"username\":\""
+                + viewer.get("user").get("username").asText() + "\",\"role\":\"VIEWER\"}"));
+
+        token = viewer.get("token").asText();
+        long copyId = read(post("/api/boards/" + boardId + ":clone").content("{}")).get("id").asLong();
+        assertEquals(viewer.get("user").get("id").asLong(), jdbcTemplate.queryForObject(
+                "select owner_id from boards where id = ?", Long.class, copyId));
+        assertEquals(3, read(get("/api/boards/" + copyId + "/tasks")).size());
+        read(put("/api/boards/" + copyId).content("{\"name\":\"Mine\"}"));
+
+        token = owner;
+        mockMvc.perform(authorized(get("/api/boards/" + copyId))).andExpect(status().isForbidden());
+    }
+
+    private void createTask(String title, String column, String fields) throws Exception {
+        read(post("/api/tasks").content("{\"boardId\":" + boardId + ",\"columnId\":" + columns.get(column)
+                + ",\"title\":\"" + title + "\"," + fields + "}"));
+    }
+
+    private String columnName(long columnId) {
+        return columns.entrySet().stream().filter(column -> column.getValue() == columnId)
+                .map(Map.Entry::getKey).findFirst().orElseThrow();
+    }
+
+    private long copiedFrom(String table, long id) {
+        return jdbcTemplate.queryForObject("select copied_from_id from " + table + " where id = ?", Long.class, id);
+    }
+
+    private JsonNode register(String name) throws Exception {
+        String username = name + "-" + UUID.randomUUID();
+        token = null;
+        return read(post("/api/auth/register").content("{\"username\":\"" + username + "\",\"email\":\""
+                + username + "@example.com\",\"password\":\"pw\"}"));
+    }
+
+    private static Map<String, JsonNode> byTitle(JsonNode tasks) {
+        Map<String, JsonNode> byTitle = new HashMap<>();
+        tasks.forEach(task -> byTitle.put(task.get("title").asText(), task));
+        return byTitle;
+    }
+
+    private static List<Long> ids(JsonNode nodes) {
+        List<Long> ids = new ArrayList<>();
+        nodes.forEach(node -> ids.add(node.get("id").asLong()));
+        return ids;
+    }
+
+    private static List<String> sorted(JsonNode values) {
+        List<String> list = new ArrayList<>();
+        values.forEach(value -> list.add(value.asText()));
+        list.sort(null);
+        return list;
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(authorized(request))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        request.contentType(MediaType.APPLICATION_JSON);
+        return token == null ? request : request.header("Authorization", "Bearer " + token);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-tasks;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "activity.queue-capacity=16"
+})
+@AutoConfigureMockMvc
+class BulkTaskEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private long boardId;
+    private long todoColumnId;
+    private long doneColumnId;
+
+    @BeforeEach
+    void createBoard() throws Exception {
+        String username = "bulk-" + UUID.randomUUID();
+        token = read(post("/api/auth/register").content("{\"username\":\"" + username + "\",\"email\":\""
+                + username + "@example.com\",\"password\":\"pw\"}")).get("token").asText();
+        boardId = read(post("/api/boards").content("{\"name\":\"Bulk\"}")).get("id").asLong();
+        for (JsonNode column : read(get("/api/boards/" + boardId + "/columns"))) {
+            if (column.get("done").asBoolean()) {
+                doneColumnId = column.get("id").asLong();
+            } else if (todoColumnId == 0) {
+                todoColumnId = column.get("id").asLong();
+            }
+        }
+    }
+
+    @Test
+    void setPriorityChangesOnlyMatchedTasks() throws Exception {
+        long low = createTask("Low", "\"priority\":\"LOW\"");
+        long otherLow = createTask("Other low", "\"priority\":\"LOW\"");
+        long high = createTask("High", "\"priority\":\"HIGH\"");
+        long version = boardVersion();
+
+        JsonNode result = bulk(
+                "{\"operation\":\"SET_PRIORITY\",\"value\":\"MEDIUM\",\"filter\":{\"priority\":\"LOW\"}}");
+        assertEquals("SET_PRIORITY", result.get("operation").asText());
+        assertEquals(2, result.get("matched").asInt());
+        assertEquals(2, result.get("affected").asInt());
+        assertEquals(version + 1, result.get("boardVersion").asLong());
+        assertEquals(version + 1, boardVersion());
+
+        assertEquals("MEDIUM", task(low).get("priority").asText());
+        assertEquals("MEDIUM", task(otherLow).get("priority").asText());
+        assertEquals("HIGH", task(high).get("priority").asText());
+    }
+
+    @Test
+    void setDueDateSetsAndClearsTheDate() throws Exception {
+        long first = createTask("First", "\"dueDate\":\"2030-01-01\"");
+        long second = createTask("Second", "\"dueDate\":\"2030-03-01\"");
+        long undated = createTask("Undated", null);
+
+        JsonNode result = bulk("{\"operation\":\"SET_DUE_DATE\",\"value\":\"2030-06-15\",\"taskIds\":["
+                + first + "," + undated + "]}");
+        assertEquals(2, result.get("affected").asInt());
+        assertEquals("2030-06-15", task(first).get("dueDate").asText());
+        assertEquals("2030-06-15", task(undated).get("dueDate").asText());
+        assertEquals("2030-03-01", task(second).get("dueDate").asText());
+
+        result = bulk("{\"operation\":\"SET_DUE_DATE\",\"value\":\"\",\"filter\":{\"dueBefore\":\"2030-04-01\"}}");
+        assertEquals(1, result.get("matched").asInt());
+        assertTrue(task(second).get("dueDate").isNull());
+        assertEquals("2030-06-15", task(first).get("dueDate").asText());
+    }
+
+    @Test
+    void moveToColumnTracksCompletion() throws Exception {
+        long open = createTask("Open", null);
+        long done = createTask("Done", null, doneColumnId);
+        assertTrue(task(done).hasNonNull("completedAt"));
+        String completedAt = task(done).get("completedAt").asText();
+
+        JsonNode result = bulk("{\"operation\":\"MOVE_TO_COLUMN\",\"value\":\"" + doneColumnId
+                + "\",\"taskIds\":[" + open + "," + done + "]}");
+        assertEquals(2, result.get("affected").asInt());
+        assertEquals(doneColumnId, task(open).get("columnId").asLong());
+        assertTrue(task(open).hasNonNull("completedAt"));
+        // tasks that were already done keep their completion time
+        assertEquals(completedAt, task(done).get("completedAt").asText());
+
+        bulk("{\"operation\":\"MOVE_TO_COLUMN\",\"value\":\"" + todoColumnId + "\",\"filter\":{\"columnId\":"
+                + doneColumnId + "}}");
+        for (long id : new long[] {open, done}) {
+            assertEquals(todoColumnId, task(id).get("columnId").asLong());
+            assertTrue(task(id).get("completedAt").isNull());
+        }
+    }
+
+    @Test
+    void tagsAreAddedOnceAndRemoved() throws Exception {
+        long tagged = createTask("Tagged", "\"tags\":[\"urgent\",\"keep\"]");
+        long untagged = createTask("Untagged", null);
+
+        JsonNode result = bulk("{\"operation\":\"ADD_TAG\",\"value\":\"urgent\",\"filter\":{}}");
+        assertEquals(2, result.get("matched").asInt());
+        assertEquals(1, result.get("affected").asInt());
+        assertEquals(List.of("keep", "urgent"), tags(tagged));
+        assertEquals(List.of("urgent"), tags(untagged));
+
+        result = bulk("{\"operation\":\"REMOVE_TAG\",\"value\":\"urgent\",\"filter\":{\"tag\":\"urgent\"}}");
+        assertEquals(2, result.get("affected").asInt());
+        assertEquals(List.of("keep"), tags(tagged));
+        assertEquals(List.of(), tags(untagged));
+    }
+
+    @Test
+    void deleteRemovesTasksAndTheirTags() throws Exception {
+        long deleted = createTask("Deleted", "\"tags\":[\"gone\"]");
+        long kept = createTask("Kept", "\"tags\":[\"stays\"]");
+
+        JsonNode result = bulk("{\"operation\":\"DELETE\",\"taskIds\":[" + deleted + "]}");
+        assertEquals(1, result.get("affected").asInt());
+
+        JsonNode tasks = read(get("/api/boards/" + boardId + "/tasks"));
+        assertEquals(1, tasks.size());
+        assertEquals(kept, tasks.get(0).get("id").asLong());
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from task_tags where task_id = ?",
+                Integer.class, deleted));
+        assertEquals(List.of("stays"), tags(kept));
+    }
+
+    @Test
+    void filtersCombineAndTasksOfOtherBoardsAreIgnored() throws Exception {
+        long match = createTask("Match", "\"priority\":\"HIGH\",\"dueDate\":\"2030-05-10\"");
+        createTask("Wrong priority", "\"priority\":\"LOW\",\"dueDate\":\"2030-05-10\"");
+        createTask("Too late", "\"priority\":\"HIGH\",\"dueDate\":\"2030-07-01\"");
+        createTask("Wrong column", "\"priority\":\"HIGH\",\"dueDate\":\"2030-05-10\"", doneColumnId);
+
+        JsonNode result = bulk("{\"operation\":\"ADD_TAG\",\"value\":\"picked\",\"filter\":{\"columnId\":"
+                + todoColumnId + ",\"priority\":\"HIGH\",\"dueAfter\":\"2030-05-01\","
+                + "\"dueBefore\":\"2030-06-01\"}}");
+        assertEquals(1, result.get("matched").asInt());
+        assertEquals(List.of("picked"), tags(match));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from task_tags where tag = 'picked'",
+                Integer.class));
+
+        long ownBoard = boardId;
+        boardId = read(post("/api/boards").content("{\"name\":\"Other\"}")).get("id").asLong();
+        long version = boardVersion();
+        result = bulk("{\"operation\":\"DELETE\",\"taskIds\":[" + match + "]}");
+        assertEquals(0, result.get("matched").asInt());
+        assertEquals(0, result.get("affected").asInt());
+        assertEquals(version, result.get("boardVersion").asLong());
+        boardId = ownBoard;
+        assertEquals(List.of("picked"), tags(match));
+    }
+
+    @Test
+    void invalidDueDateIsBadRequest() throws Exception {
+        for (String value : new String[] {"tomorrow", "2024-02-30", "2024-13-01"}) {
+            mockMvc.perform(authorized(post("/api/boards/" + boardId + "/tasks:bulk"))
+                            .content("{\"operation\":\"SET_DUE_DATE\",\"value\":\"" + value + "\",\"filter\":{}}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid date: " + value));
+        }
+    }
+
+    @Test
+    void bulkActivityIsNotLimitedByTheQueue() throws Exception {
+        long columnId = jdbcTemplate.queryForObject("select min(id) from columns where board_id = ?", Long.class,
+                boardId);
+        jdbcTemplate.update("insert into tasks (title, column_id, board_id, priority, task_order, created_at) " +
+                "select 'Task ' || x, ?, ?, 'LOW', x, current_timestamp from system_range(1, 100)", columnId, boardId);
+
+        mockMvc.perform(authorized(post("/api/boards/" + boardId + "/tasks:bulk"))
+                        .content("{\"operation\":\"SET_PRIORITY\",\"value\":\"HIGH\",\"filter\":{}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(100));
+
+        assertEquals(100, jdbcTemplate.queryForObject("select count(*) from task_activity where board_id = ? " +
+                "and type = 'PRIORITY_CHANGED'", Integer.class, boardId));
+    }
+
+    private long createTask(String title, String fields) throws Exception {
+        return createTask(title, fields, todoColumnId);
+    }
+
+    private long createTask(String title, String fields, long columnId) throws Exception {
+        return read(post("/api/tasks").content("{\"boardId\":" + boardId + ",\"columnId\":" + columnId
+                + ",\"title\":\"" + title + "\"" + (fields != null ? "," + fields : "") + "}")).get("id").asLong();
+    }
+
+    private JsonNode bulk(String body) throws Exception {
+        return read(post("/api/boards/" + boardId + "/tasks:bulk").content(body));
+    }
+
+    private JsonNode task(long id) throws Exception {
+        return read(get("/api/tasks/" + id));
+    }
+
+    private List<String> tags(long id) throws Exception {
+        List<String> tags = new ArrayList<>();
+        task(id).get("tags").forEach(tag -> tags.add(tag.asText()));
+        tags.sort(null);
+        return tags;
+    }
+
+    private long boardVersion() throws Exception {
+        return read(get("/api/boards/" + boardId)).get("version").asLong();
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(authorized(request))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        request.contentType(MediaType.APPLICATION_JSON);
+        return token == null ? request : request.header("Authorization", "Bearer " + token);
+    }
+}
\ No newline at end of file
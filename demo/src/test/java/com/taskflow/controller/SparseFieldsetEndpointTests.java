@@ -0,0 +1,187 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sparse-fieldsets;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "ratelimit.enabled=false"
+})
+@AutoConfigureMockMvc
+class SparseFieldsetEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private String username;
+    private long boardId;
+    private long columnId;
+
+    @BeforeEach
+    void createBoard() throws Exception {
+        JsonNode registered = register("fields");
+        token = registered.get("token").asText();
+        username = registered.get("user").get("username").asText();
+        boardId = read(post("/api/boards").content("{\"name\":\"Fields\",\"description\":\"Owned\"}"))
+                .get("id").asLong();
+        columnId = read(get("/api/boards/" + boardId + "/columns")).get(0).get("id").asLong();
+    }
+
+    @Test
+    void boardSummaryListsOwnedAndSharedBoardsWithoutTemplates() throws Exception {
+        read(post("/api/boards/" + boardId + ":clone").content("{\"template\":true,\"name\":\"Template\"}"));
+        String owner = token;
+        token = register("sharer").get("token").asText();
+        long sharedId = read(post("/api/boards").content("{\"name\":\"Shared\"}")).get("id").asLong();
+        read(put("/api/boards/" + sharedId + "/members")
+                .content("{\"username\":\"" + username + "\",\"role\":\"VIEWER\"}"));
+        token = owner;
+
+        JsonNode boards = read(get("/api/boards").param("view", "summary"));
+        assertEquals(2, boards.size());
+        Map<Long, JsonNode> byId = byId(boards);
+        for (JsonNode board : boards) {
+            assertEquals(Set.of("id", "name"), keys(board));
+        }
+        assertEquals("Fields", byId.get(boardId).get("name").asText());
+        assertEquals("Shared", byId.get(sharedId).get("name").asText());
+    }
+
+    @Test
+    void boardFieldsSelectOnlyTheRequestedColumns() throws Exception {
+        JsonNode boards = read(get("/api/boards").param("fields", "description, createdAt"));
+        assertEquals(1, boards.size());
+        assertEquals(Set.of("id", "description", "createdAt"), keys(boards.get(0)));
+        assertEquals("Owned", boards.get(0).get("description").asText());
+        assertEquals(read(get("/api/boards/" + boardId)).get("createdAt"), boards.get(0).get("createdAt"));
+    }
+
+    @Test
+    void taskSummaryReturnsSummaryFieldsInBoardOrder() throws Exception {
+        long first = createTask("{\"title\":\"First\",\"priority\":\"HIGH\",\"description\":\"long text\"}");
+        long second = createTask("{\"title\":\"Second\",\"priority\":\"LOW\"}");
+
+        JsonNode tasks = read(get("/api/boards/" + boardId + "/tasks").param("view", "summary"));
+        assertEquals(2, tasks.size());
+        Map<Long, JsonNode> byId = byId(tasks);
+        for (JsonNode task : tasks) {
+            assertEquals(Set.of("id", "title", "columnId", "priority"), keys(task));
+            assertEquals(columnId, task.get("columnId").asLong());
+        }
+        assertEquals("First", byId.get(first).get("title").asText());
+        assertEquals("HIGH", byId.get(first).get("priority").asText());
+        assertEquals("Second", byId.get(second).get("title").asText());
+        assertEquals("LOW", byId.get(second).get("priority").asText());
+    }
+
+    @Test
+    void taskFieldsMatchTheFullEntities() throws Exception {
+        createTask("{\"title\":\"Tagged\",\"dueDate\":\"2030-01-15\",\"tags\":[\"a\",\"b\"]}");
+        createTask("{\"title\":\"Plain\"}");
+
+        JsonNode full = read(get("/api/boards/" + boardId + "/tasks"));
+        JsonNode sparse = read(get("/api/boards/" + boardId + "/tasks")
+                .param("fields", "title,tags,dueDate,boardId"));
+        assertEquals(full.size(), sparse.size());
+        Map<Long, JsonNode> fullById = byId(full);
+        for (JsonNode task : sparse) {
+            assertEquals(Set.of("id", "title", "tags", "dueDate", "boardId"), keys(task));
+            JsonNode entity = fullById.get(task.get("id").asLong());
+            for (String field : new String[] {"title", "dueDate", "boardId"}) {
+                assertEquals(entity.get(field), task.get(field), field);
+            }
+            assertEquals(sorted(entity.get("tags")), sorted(task.get("tags")));
+        }
+        assertTrue(keys(full.get(0)).containsAll(Set.of("description", "completedAt", "createdAt")));
+    }
+
+    @Test
+    void tagsAreOnlyReadWhenRequested() throws Exception {
+        createTask("{\"title\":\"Tagged\",\"tags\":[\"a\"]}");
+        JsonNode tasks = read(get("/api/boards/" + boardId + "/tasks").param("fields", "title"));
+        assertEquals(Set.of("id", "title"), keys(tasks.get(0)));
+    }
+
+    @Test
+    void unknownFieldsAndViewsAreBadRequests() throws Exception {
+        for (String path : new String[] {"/api/boards", "/api/boards/" + boardId + "/tasks"}) {
+            mockMvc.perform(authorized(get(path)).param("fields", "id,owner"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Unknown field: owner"));
+            mockMvc.perform(authorized(get(path)).param("view", "detailed"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Unknown view: detailed"));
+        }
+    }
+
+    private long createTask(String fields) throws Exception {
+        return read(post("/api/tasks").content("{\"boardId\":" + boardId + ",\"columnId\":" + columnId + ","
+                + fields.substring(1))).get("id").asLong();
+    }
+
+    private JsonNode register(String name) throws Exception {
+        String username = name + "-" + UUID.randomUUID();
+        token = null;
+        return read(post("/api/auth/register").content("{\"username\":\"" + username + "\",\"email\":\""
+                + username + "@example.com\",\"password\":\"pw\"}"));
+    }
+
+    private static Set<String> keys(JsonNode node) {
+        Set<String> keys = new TreeSet<>();
+        node.fieldNames().forEachRemaining(keys::add);
+        return keys;
+    }
+
+    private static Map<Long, JsonNode> byId(JsonNode nodes) {
+        Map<Long, JsonNode> byId = new HashMap<>();
+        nodes.forEach(node -> byId.put(node.get("id").asLong(), node));
+        return byId;
+    }
+
+    private static List<String> sorted(JsonNode values) {
+        List<String> list = new ArrayList<>();
+        values.forEach(value -> list.add(value.asText()));
+        list.sort(null);
+        return list;
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(authorized(request))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        request.contentType(MediaType.APPLICATION_JSON);
+        return token == null ? request : request.header("Authorization", "Bearer " + token);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.taskflow.datasource;
+
+import com.taskflow.cache.BoardCache;
+import com.taskflow.model.BoardMember;
+import com.taskflow.security.BoardAccessIndex;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.username=sa",
+        "spring.datasource.replica.password=",
+        "datasource.routing.max-replica-lag-ms=60000",
+        "datasource.routing.sticky-window-ms=60000",
+        "reminder.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingDataSourceTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BoardAccessIndex boardAccessIndex;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private JdbcTemplate routed;
+
+    @BeforeEach
+    void replicate() throws Exception {
+        routed = new JdbcTemplate(dataSource);
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+
+        primary.execute("create table if not exists routing_probe (name varchar(32))");
+        primary.update("delete from routing_probe");
+        primary.update("insert into routing_probe values ('replicated')");
+        replicaLagMonitor.heartbeat();
+
+        Path snapshot = Files.createTempFile("replica", ".sql");
+        primary.execute("script to '" + snapshot + "'");
+        replica.execute("drop all objects");
+        replica.execute("runscript from '" + snapshot + "'");
+        Files.delete(snapshot);
+        replicaLagMonitor.refresh();
+
+        primary.update("insert into routing_probe values ('primary-only')");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals(List.of("replicated"), readProbe());
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<String> names = tx.execute(status ->
+                routed.queryForList("select name from routing_probe order by name", String.class));
+        assertEquals(List.of("primary-only", "replicated"), names);
+    }
+
+    @Test
+    void clientReadsOwnWritesFromPrimary() throws Exception {
+        List<List<String>> seen = new ArrayList<>();
+        MockHttpServletResponse writeResponse = request(null, () -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    routed.update("update routing_probe set name = name"));
+            seen.add(readProbe());
+        });
+        assertEquals(List.of("primary-only", "replicated"), seen.get(0));
+        Cookie pin = writeResponse.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertNotNull(pin);
+        assertTrue(pin.isHttpOnly());
+
+        // the deadline comes back with the client, so no instance has to remember the write
+        request(pin, () -> seen.add(readProbe()));
+        assertEquals(List.of("primary-only", "replicated"), seen.get(1));
+        request(null, () -> seen.add(readProbe()));
+        assertEquals(List.of("replicated"), seen.get(2));
+    }
+
+    @Test
+    void writeRequestsSetThePinCookie() throws Exception {
+        String username = "pinned-" + UUID.randomUUID();
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"email\":\"" + username
+                                + "@example.com\",\"password\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWritesTracker.COOKIE_NAME))
+                .andExpect(cookie().httpOnly(ReadYourWritesTracker.COOKIE_NAME, true));
+    }
+
+    @Test
+    void expiredOrForgedPinsAreIgnored() throws Exception {
+        List<List<String>> seen = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (String until : new String[] {Long.toString(now - 1000), Long.toString(now + 3_600_000), "never"}) {
+            request(new Cookie(ReadYourWritesTracker.COOKIE_NAME, until), () -> seen.add(readProbe()));
+        }
+        assertEquals(List.of(List.of("replicated"), List.of("replicated"), List.of("replicated")), seen);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replicaDataSource).update("update replication_heartbeat set beat_at = ?",
+                new Timestamp(System.currentTimeMillis() - 120_000));
+        replicaLagMonitor.refresh();
+        assertEquals(List.of("primary-only", "replicated"), readProbe());
+    }
+
+    @Test
+    void cacheLoadsReadThePrimary() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        String username = "owner-" + UUID.randomUUID();
+        primary.update("insert into users (username, email, password, created_at) " +
+                "values (?, ?, 'pw', current_timestamp)", username, username + "@example.com");
+        long ownerId = primary.queryForObject("select id from users where username = ?", Long.class, username);
+        primary.update("insert into boards (name, owner_id, version, created_at) " +
+                "values ('b', ?, 0, current_timestamp)", ownerId);
+        long boardId = primary.queryForObject("select id from boards where owner_id = ?", Long.class, ownerId);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> {
+            assertEquals(List.of("replicated"), routed.queryForList("select name from routing_probe", String.class));
+            assertEquals(BoardMember.Role.OWNER, boardAccessIndex.getRole(ownerId, boardId));
+            assertEquals(ownerId, boardCache.getOwnerId(boardId));
+            assertEquals("pw", userDetailsService.loadUserByUsername(username).getPassword());
+        });
+        assertEquals(List.of("replicated"), readProbe());
+    }
+
+    private MockHttpServletResponse request(Cookie cookie, Runnable work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readYourWritesTracker.doFilter(request, response, (req, res) -> work.run());
+        return response;
+    }
+
+    private List<String> readProbe() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> routed.queryForList("select name from routing_probe order by name", String.class));
+    }
+}
\ No newline at end of file
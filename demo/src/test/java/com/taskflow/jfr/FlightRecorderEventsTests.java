@@ -0,0 +1,136 @@
+package com.taskflow.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfr-events;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false"
+})
+@AutoConfigureMockMvc
+class FlightRecorderEventsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void requestPathEmitsApplicationEvents() throws Exception {
+        Path file = Files.createTempFile("jfr-events-", ".jfr");
+        long boardId;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Request", "JwtVerification", "Authorization", "RepositoryCall",
+                    "JsonSerialization")) {
+                recording.enable("com.taskflow." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            String token = register("jfr");
+            JsonNode board = objectMapper.readTree(mockMvc.perform(post("/api/boards")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"Traced\"}"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            boardId = board.get("id").asLong();
+            mockMvc.perform(get("/api/boards/" + boardId + "/columns")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+        Files.delete(file);
+
+        assertTrue(events.get("com.taskflow.Request").stream().anyMatch(event ->
+                "/api/boards/{id}/columns".equals(event.getString("path")) && event.getInt("status") == 200));
+        assertTrue(events.get("com.taskflow.JwtVerification").stream()
+                .allMatch(event -> JwtVerificationEvent.VALID.equals(event.getString("outcome"))));
+        RecordedEvent authorization = events.get("com.taskflow.Authorization").get(0);
+        assertEquals(boardId, authorization.getLong("boardId"));
+        assertTrue(authorization.getBoolean("granted"));
+        assertTrue(events.get("com.taskflow.RepositoryCall").stream().anyMatch(event ->
+                "ColumnRepository".equals(event.getString("repository")) && event.getLong("rows") == 3));
+        assertTrue(events.get("com.taskflow.JsonSerialization").stream().anyMatch(event ->
+                "Column[]".equals(event.getString("type")) && event.getLong("bytes") > 0));
+    }
+
+    @Test
+    void continuousRecordingCanBeDumped() throws Exception {
+        assertTrue(flightRecorderService.isRecording());
+
+        Path file = flightRecorderService.dump(Duration.ofMinutes(1));
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertFalse(events.isEmpty());
+            assertTrue(events.stream().map(event -> event.getEventType().getName()).noneMatch(Set.of(
+                    "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation",
+                    "jdk.SystemProcess")::contains));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void dumpEndpointIsForOperatorsOnly() throws Exception {
+        String user = register("jfr-user");
+        mockMvc.perform(get("/actuator/jfr").header("Authorization", "Bearer " + user))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + user))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health").header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk());
+
+        String operator = register("jfr-operator");
+        jdbcTemplate.update("update users set operator = true where username = ?", "jfr-operator");
+        byte[] dump = mockMvc.perform(get("/actuator/jfr?minutes=1").header("Authorization", "Bearer " + operator))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertTrue(dump.length > 0);
+    }
+
+    private String register(String username) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"email\":\"" + username
+                                + "@example.com\",\"password\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.taskflow.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTests {
+
+    private static final long TICK = 10;
+    private static final int SIZE = 8;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, SIZE, 0);
+    private final Map<String, Long> fired = new LinkedHashMap<>();
+
+    @Test
+    void firesInTheTickContainingTheExpiration() {
+        assertTrue(wheel.add(new HierarchicalTimingWheel.Entry<>(35, "a")));
+
+        advance(29);
+        assertTrue(fired.isEmpty());
+        advance(30);
+        assertEquals(Map.of("a", 30L), fired);
+    }
+
+    @Test
+    void dueEntriesAreNotAdded() {
+        advance(40);
+        assertFalse(wheel.add(new HierarchicalTimingWheel.Entry<>(45, "due")));
+        assertFalse(wheel.add(new HierarchicalTimingWheel.Entry<>(5, "past")));
+        assertTrue(wheel.add(new HierarchicalTimingWheel.Entry<>(50, "next")));
+    }
+
+    @Test
+    void overflowEntriesCascadeDownAndFireOnTime() {
+        // 1000 is beyond the first two levels (80 and 640 ms), so it starts on the third
+        wheel.add(new HierarchicalTimingWheel.Entry<>(1000, "far"));
+        wheel.add(new HierarchicalTimingWheel.Entry<>(85, "overflow"));
+
+        for (long now = 0; now < 1000; now += TICK) {
+            advance(now);
+        }
+        assertEquals(Map.of("overflow", 80L), fired);
+        advance(1000);
+        assertEquals(1000L, fired.get("far"));
+    }
+
+    @Test
+    void largeJumpCascadesThroughEveryLevel() {
+        wheel.add(new HierarchicalTimingWheel.Entry<>(1000, "far"));
+        wheel.add(new HierarchicalTimingWheel.Entry<>(4321, "farther"));
+
+        advance(5000);
+        assertEquals(List.of("far", "farther"), List.copyOf(fired.keySet()));
+    }
+
+    @Test
+    void bucketsAreReusedAfterTheWheelWraps() {
+        // both map to bucket 1 of the first level, one rotation apart
+        wheel.add(new HierarchicalTimingWheel.Entry<>(15, "first"));
+        wheel.add(new HierarchicalTimingWheel.Entry<>(95, "second"));
+
+        advance(10);
+        assertEquals(Map.of("first", 10L), fired);
+
+        advance(70);
+        // expires after the current rotation, in a bucket behind the current one
+        assertTrue(wheel.add(new HierarchicalTimingWheel.Entry<>(85, "wrapped")));
+        advance(89);
+        assertEquals(80L, fired.get("wrapped"));
+        assertFalse(fired.containsKey("second"));
+        advance(90);
+        assertEquals(90L, fired.get("second"));
+    }
+
+    @Test
+    void cancelledEntriesNeverFire() {
+        HierarchicalTimingWheel.Entry<String> near = new HierarchicalTimingWheel.Entry<>(25, "near");
+        HierarchicalTimingWheel.Entry<String> far = new HierarchicalTimingWheel.Entry<>(700, "far");
+        HierarchicalTimingWheel.Entry<String> kept = new HierarchicalTimingWheel.Entry<>(25, "kept");
+        wheel.add(near);
+        wheel.add(far);
+        wheel.add(kept);
+
+        near.cancel();
+        far.cancel();
+        far.cancel();
+        advance(1000);
+        assertEquals(Map.of("kept", 20L), fired);
+    }
+
+    @Test
+    void addingAnEntryTwiceKeepsOneCopy() {
+        HierarchicalTimingWheel.Entry<String> entry = new HierarchicalTimingWheel.Entry<>(25, "a");
+        wheel.add(entry);
+        wheel.add(entry);
+
+        advance(100);
+        assertEquals(Map.of("a", 20L), fired);
+    }
+
+    @Test
+    void everyEntryFiresOnceInItsOwnTick() {
+        Random random = new Random(42);
+        Map<String, Long> expirations = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long expiration = TICK + random.nextInt(200_000);
+            expirations.put("e" + i, expiration);
+            assertTrue(wheel.add(new HierarchicalTimingWheel.Entry<>(expiration, "e" + i)));
+        }
+
+        for (long now = 0; now <= 210_000; now += 1 + random.nextInt(3000)) {
+            advance(now);
+        }
+        assertEquals(expirations.size(), fired.size());
+        expirations.forEach((value, expiration) -> assertEquals(expiration - expiration % TICK, fired.get(value)));
+    }
+
+    @Test
+    void rejectsNonPositiveSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(0, SIZE, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(TICK, 0, 0));
+    }
+
+    private void advance(long now) {
+        wheel.advance(now, entry -> {
+            if (!wheel.add(entry)) {
+                assertNull(fired.put(entry.getValue(), wheel.getCurrentTime()), "fired twice");
+            }
+        });
+    }
+}
\ No newline at end of file
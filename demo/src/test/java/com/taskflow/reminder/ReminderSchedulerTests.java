@@ -0,0 +1,127 @@
+package com.taskflow.reminder;
+
+import com.taskflow.model.Board;
+import com.taskflow.model.Column;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import com.taskflow.repository.BoardRepository;
+import com.taskflow.repository.ColumnRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reminders;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=true"
+})
+class ReminderSchedulerTests {
+
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void wheelChangesOnlyOnCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        DueTask task = new DueTask(9_000_001L, 1L, 1L, "Due tomorrow", LocalDate.now().plusDays(1));
+        int before = reminderScheduler.scheduledCount();
+
+        transaction.executeWithoutResult(status -> {
+            reminderScheduler.onTaskSaved(task);
+            assertEquals(before, reminderScheduler.scheduledCount());
+            status.setRollbackOnly();
+        });
+        assertEquals(before, reminderScheduler.scheduledCount());
+
+        transaction.executeWithoutResult(status -> reminderScheduler.onTaskSaved(task));
+        assertEquals(before + 1, reminderScheduler.scheduledCount());
+
+        transaction.executeWithoutResult(status -> {
+            reminderScheduler.onTaskDeleted(task.getTaskId());
+            reminderScheduler.onBoardDeleted(task.getBoardId());
+            status.setRollbackOnly();
+        });
+        assertEquals(before + 1, reminderScheduler.scheduledCount());
+
+        transaction.executeWithoutResult(status -> reminderScheduler.onTaskDeleted(task.getTaskId()));
+        assertEquals(before, reminderScheduler.scheduledCount());
+    }
+
+    @Test
+    void tasksInDoneColumnsGetNoReminders() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User owner = new User();
+        owner.setUsername("reminder-owner");
+        owner.setEmail("reminder-owner@example.com");
+        owner.setPassword("pw");
+        userRepository.save(owner);
+        Board board = new Board();
+        board.setName("Reminders");
+        board.setOwner(owner);
+        boardRepository.save(board);
+        Column open = column(board, "To Do", 0, false);
+        Column done = column(board, "Done", 1, true);
+        Task task = new Task();
+        task.setTitle("Due tomorrow");
+        task.setBoard(board);
+        task.setColumn(open);
+        task.setDueDate(LocalDate.now().plusDays(1));
+        int before = reminderScheduler.scheduledCount();
+
+        transaction.executeWithoutResult(status -> reminderScheduler.onTaskSaved(taskRepository.save(task)));
+        assertEquals(before + 1, reminderScheduler.scheduledCount());
+
+        List<Long> ids = List.of(task.getId());
+        transaction.executeWithoutResult(status -> {
+            taskRepository.updateColumn(ids, done.getId(), true, LocalDateTime.now());
+            reminderScheduler.onTasksChanged(ids);
+        });
+        assertEquals(before, reminderScheduler.scheduledCount());
+
+        transaction.executeWithoutResult(status -> {
+            taskRepository.updateColumn(ids, open.getId(), false, LocalDateTime.now());
+            reminderScheduler.onTasksChanged(ids);
+        });
+        assertEquals(before + 1, reminderScheduler.scheduledCount());
+
+        task.setColumn(done);
+        transaction.executeWithoutResult(status -> reminderScheduler.onTaskSaved(taskRepository.save(task)));
+        assertEquals(before, reminderScheduler.scheduledCount());
+
+        reminderScheduler.onBoardCopied(board.getId());
+        assertEquals(before, reminderScheduler.scheduledCount());
+    }
+
+    private Column column(Board board, String name, int order, boolean done) {
+        Column column = new Column();
+        column.setName(name);
+        column.setOrder(order);
+        column.setDone(done);
+        column.setBoard(board);
+        return columnRepository.save(column);
+    }
+}
\ No newline at end of file
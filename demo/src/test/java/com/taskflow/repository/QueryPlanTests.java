@@ -0,0 +1,257 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query through H2's EXPLAIN and fails on a table scan, or when a query is not
+ * served by the index declared for it in db/migration. H2 only reports "index sorted" when the ORDER BY
+ * columns are the leading index columns, and picks arbitrarily between the foreign key index and a
+ * composite one with the same leading column; there the test checks for an index lookup on that column,
+ * plus the existence of the (equality, order) index that lets MySQL skip the filesort.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plans;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.taskflow.repository.QueryPlanTests$Capture",
+        "reminder.enabled=false"
+})
+@Transactional
+class QueryPlanTests {
+
+    private static final List<Long> IDS = List.of(1L, 2L, 3L);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskActivityRepository taskActivityRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void taskListingsUseOrderedIndexes() {
+        assertOrderedLookup("TASKS", "BOARD_ID", "TASK_ORDER", () -> taskRepository.findByBoard_IdOrderByOrderAsc(1L));
+        assertOrderedLookup("TASKS", "COLUMN_ID", "TASK_ORDER",
+                () -> taskRepository.findByColumn_IdOrderByOrderAsc(1L));
+        assertOrderedLookup("TASKS", "BOARD_ID", "TASK_ORDER",
+                () -> taskRepository.findFieldsByBoardId(1L, TaskRepositoryCustom.SELECTABLE_FIELDS));
+    }
+
+    /**
+     * Derived findByBoard_Id-style queries make hibernate emit
+     * {@code from tasks t1_0 left join boards b1_0 on b1_0.id=t1_0.board_id where b1_0.id=?}; the explicit
+     * JPQL these methods carry must keep filtering on the foreign key column itself.
+     */
+    @Test
+    void listingsFilterOnTheForeignKeyWithoutJoining() {
+        assertForeignKeyFilter("board_id", () -> taskRepository.findByBoard_IdOrderByOrderAsc(1L));
+        assertForeignKeyFilter("column_id", () -> taskRepository.findByColumn_IdOrderByOrderAsc(1L));
+        assertForeignKeyFilter("board_id", () -> columnRepository.findByBoard_IdOrderByOrderAsc(1L));
+    }
+
+    @Test
+    void dueDateRangeIsIndexSorted() {
+        String plan = plan(() -> taskRepository.findDueBetween(LocalDate.now(), LocalDate.now().plusDays(2),
+                PageRequest.of(0, 100)));
+        assertTrue(plan.contains("IDX_TASKS_DUE_DATE_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+        plan(() -> taskRepository.findDueByIds(IDS));
+    }
+
+    @Test
+    void taskFiltersAndBulkStatementsUseIndexes() {
+        plan(() -> taskRepository.findIdsByBoardIdMatching(1L, IDS, 1L, Task.Priority.HIGH, "tag",
+                LocalDate.now(), LocalDate.now()));
+        LocalDateTime now = LocalDateTime.now();
+        plan(() -> taskRepository.updatePriority(IDS, Task.Priority.LOW, now));
+        plan(() -> taskRepository.updateDueDate(IDS, LocalDate.now(), now));
+        plan(() -> taskRepository.updateColumn(IDS, 1L, true, now));
+        assertUses("IDX_TASK_TAGS_TASK_TAG", () -> taskRepository.addTag(IDS, "tag"));
+        assertLookup("TASK_ID", () -> taskRepository.removeTag(IDS, "tag"));
+        plan(() -> taskRepository.deleteTags(IDS));
+        plan(() -> taskRepository.deleteByIds(IDS));
+    }
+
+    @Test
+    void archiveStatementsUseIndexes() {
+        assertUses("IDX_TASKS_COMPLETED_AT", () -> taskRepository.lockCompletedBefore(LocalDateTime.now(), 500));
+        LocalDateTime now = LocalDateTime.now();
+        plan(() -> archivedTaskRepository.copyFromTasks(IDS, now));
+        plan(() -> archivedTaskRepository.copyFromTaskTags(IDS));
+        plan(() -> archivedTaskRepository.copyToTasks(IDS, now));
+        plan(() -> archivedTaskRepository.copyToTaskTags(IDS));
+        plan(() -> archivedTaskRepository.deleteTags(IDS));
+        plan(() -> archivedTaskRepository.deleteByIds(IDS));
+        assertUses("IDX_TASKS_ARCHIVE_BOARD", () -> archivedTaskRepository.findByBoardIdAndIdLessThanOrderByIdDesc(1L,
+                Long.MAX_VALUE, PageRequest.of(0, 50)));
+        assertUses("IDX_TASKS_ARCHIVE_BOARD", () -> archivedTaskRepository.deleteTagsByBoardId(1L));
+        assertUses("IDX_TASKS_ARCHIVE_BOARD", () -> archivedTaskRepository.deleteByBoardId(1L));
+    }
+
+    @Test
+    void cloneStatementsUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        assertLookup("BOARD_ID", () -> columnRepository.copyColumns(1L, 2L, now));
+        assertLookup("BOARD_ID", () -> taskRepository.copyTasks(1L, 2L, false, now));
+        assertLookup("BOARD_ID", () -> taskRepository.copyTags(2L));
+        plan(() -> taskRepository.findDueByBoardId(1L, LocalDate.now()));
+        plan(() -> boardRepository.findTemplatesByOwnerId(1L));
+    }
+
+    @Test
+    void boardAndColumnListingsUseIndexes() {
+        assertOrderedLookup("COLUMNS", "BOARD_ID", "COLUMN_ORDER",
+                () -> columnRepository.findByBoard_IdOrderByOrderAsc(1L));
+        assertAccessibleLookup(() -> boardRepository.findAccessibleByUserId(1L));
+        assertAccessibleLookup(() -> boardRepository.findFieldsByUserId(1L, BoardRepositoryCustom.SELECTABLE_FIELDS));
+        plan(() -> boardRepository.incrementVersion(1L));
+        plan(() -> boardRepository.findVersion(1L));
+        plan(() -> boardRepository.findOwnerId(1L));
+    }
+
+    @Test
+    void membershipQueriesUseIndexes() {
+        assertAccessibleLookup(() -> boardMemberRepository.findAccessByUserId(1L));
+        assertOrderedLookup("BOARD_MEMBERS", "BOARD_ID", "USER_ID", () -> boardMemberRepository.findByBoardId(1L));
+        assertLookup("BOARD_ID", () -> boardMemberRepository.findByBoardIdAndUserId(1L, 2L));
+        assertLookup("BOARD_ID", () -> boardMemberRepository.findUserIdsByBoardId(1L));
+        assertLookup("BOARD_ID", () -> boardMemberRepository.deleteByBoardId(1L));
+    }
+
+    @Test
+    void changeLogQueriesUseIndexes() {
+        plan(() -> changeLogRepository.findByIdGreaterThanOrderByIdAsc(1L, PageRequest.of(0, 500)));
+        plan(() -> changeLogRepository.findMaxId());
+        assertUses("IDX_CHANGE_LOG_CREATED_AT", () -> changeLogRepository.deleteOlderThan(LocalDateTime.now()));
+    }
+
+    @Test
+    void userLookupsUseUniqueIndexes() {
+        plan(() -> userRepository.findByUsername("user"));
+        plan(() -> userRepository.findByEmail("user@example.com"));
+        plan(() -> userRepository.existsByUsername("user"));
+        plan(() -> userRepository.existsByEmail("user@example.com"));
+    }
+
+    @Test
+    void activityAndRevocationQueriesUseIndexes() {
+        assertUses("IDX_TASK_ACTIVITY_TASK", () -> taskActivityRepository.findByTaskIdAndIdLessThanOrderByIdDesc(1L,
+                Long.MAX_VALUE, PageRequest.of(0, 50)));
+        assertUses("IDX_TASK_ACTIVITY_BOARD", () -> taskActivityRepository.findByBoardIdAndIdLessThanOrderByIdDesc(1L,
+                Long.MAX_VALUE, PageRequest.of(0, 50)));
+        assertUses("IDX_REVOKED_TOKENS_EXPIRES_AT",
+                () -> revokedTokenRepository.findActiveJtis(LocalDateTime.now(), PageRequest.of(0, 100)));
+        assertUses("IDX_REVOKED_TOKENS_EXPIRES_AT", () -> revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+    }
+
+    private void assertUses(String index, Runnable query) {
+        assertUses(index, plan(query));
+    }
+
+    private void assertUses(String index, String plan) {
+        assertTrue(plan.contains(index), () -> index + " not used:\n" + plan);
+    }
+
+    private void assertLookup(String column, Runnable query) {
+        assertLookup(column, plan(query));
+    }
+
+    private void assertLookup(String column, String plan) {
+        assertTrue(plan.contains(column + " = ?") || plan.contains(column + " IN("),
+                () -> "no index lookup on " + column + ":\n" + plan);
+    }
+
+    private void assertAccessibleLookup(Runnable query) {
+        String plan = plan(query);
+        assertLookup("OWNER_ID", plan);
+        assertLookup("USER_ID", plan);
+    }
+
+    private void assertOrderedLookup(String table, String equalityColumn, String orderColumn, Runnable query) {
+        assertLookup(equalityColumn, plan(query));
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select a.index_name from information_schema.index_columns a " +
+                        "join information_schema.index_columns b on b.index_name = a.index_name " +
+                        "and b.table_name = a.table_name and b.ordinal_position = 2 " +
+                        "where a.table_name = ? and a.column_name = ? and a.ordinal_position = 1 and b.column_name = ?",
+                String.class, table, equalityColumn, orderColumn);
+        assertFalse(indexes.isEmpty(), () -> "no index on " + table + " (" + equalityColumn + ", " + orderColumn + ")");
+    }
+
+    private void assertForeignKeyFilter(String column, Runnable query) {
+        Capture.STATEMENTS.clear();
+        query.run();
+        assertFalse(Capture.STATEMENTS.isEmpty(), "query issued no SQL");
+        for (String sql : Capture.STATEMENTS) {
+            assertFalse(sql.contains(" join "), () -> "joins the parent table:\n" + sql);
+            assertTrue(sql.matches(".* where \\w+\\." + column + "=\\?.*"),
+                    () -> "no filter on " + column + ":\n" + sql);
+        }
+    }
+
+    private String plan(Runnable query) {
+        Capture.STATEMENTS.clear();
+        query.run();
+        List<String> statements = new ArrayList<>(Capture.STATEMENTS);
+        assertFalse(statements.isEmpty(), "query issued no SQL");
+
+        StringBuilder plans = new StringBuilder();
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+            assertFalse(plan.contains("tableScan"), () -> "table scan in plan:\n" + plan);
+            plans.append(plan).append('\n');
+        }
+        return plans.toString();
+    }
+
+    public static class Capture implements StatementInspector {
+        static final List<String> STATEMENTS = new ArrayList<>();
+        private static final Set<String> EXPLAINABLE = Set.of("select", "update", "delete", "insert");
+
+        @Override
+        public String inspect(String sql) {
+            String verb = sql.stripLeading().split("\\s+", 2)[0].toLowerCase();
+            if (EXPLAINABLE.contains(verb)) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
\ No newline at end of file
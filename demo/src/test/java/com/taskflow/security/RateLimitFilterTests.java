@@ -0,0 +1,70 @@
+package com.taskflow.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-limit;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "ratelimit.read.capacity=2",
+        "ratelimit.read.per-second=0.001",
+        "ratelimit.ip-factor=2"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTests {
+
+    private static final String OFFICE = "203.0.113.7";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void signedInUsersAreLimitedPerUserAndPerAddress() throws Exception {
+        String alice = register("limit-alice");
+        String bob = register("limit-bob");
+        String carol = register("limit-carol");
+
+        read(alice, OFFICE).andExpect(status().isOk());
+        read(alice, OFFICE).andExpect(status().isOk());
+        read(alice, OFFICE).andExpect(status().isTooManyRequests()).andExpect(header().exists("Retry-After"));
+
+        // alice's rejected request gave its address token back, so bob still fits the address budget of 4
+        read(bob, OFFICE).andExpect(status().isOk());
+        read(bob, OFFICE).andExpect(status().isOk());
+
+        read(carol, OFFICE).andExpect(status().isTooManyRequests());
+        read(carol, "198.51.100.20").andExpect(status().isOk());
+    }
+
+    private ResultActions read(String token, String address) throws Exception {
+        return mockMvc.perform(get("/api/boards")
+                .header("Authorization", "Bearer " + token)
+                .with(request -> {
+                    request.setRemoteAddr(address);
+                    return request;
+                }));
+    }
+
+    private String register(String username) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"email\":\"" + username
+                                + "@example.com\",\"password\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.taskflow.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTests {
+
+    private static final long INTERVAL = 100;
+    private static final int CAPACITY = 5;
+    private static final long BURST = INTERVAL * CAPACITY;
+
+    @Test
+    void fullBucketAdmitsItsCapacityAtOnce() {
+        TokenBucket bucket = new TokenBucket(1_000);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryConsume(1_000, INTERVAL, BURST));
+        }
+        assertEquals(INTERVAL, bucket.tryConsume(1_000, INTERVAL, BURST));
+    }
+
+    @Test
+    void emptyBucketRefillsOneTokenPerInterval() {
+        TokenBucket bucket = drained(0);
+
+        assertEquals(1, bucket.tryConsume(99, INTERVAL, BURST));
+        assertEquals(0, bucket.tryConsume(100, INTERVAL, BURST));
+        assertEquals(INTERVAL, bucket.tryConsume(100, INTERVAL, BURST));
+
+        assertEquals(0, bucket.tryConsume(350, INTERVAL, BURST));
+        assertEquals(0, bucket.tryConsume(350, INTERVAL, BURST));
+        assertEquals(50, bucket.tryConsume(350, INTERVAL, BURST));
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsume() {
+        TokenBucket bucket = drained(0);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(bucket.tryConsume(50, INTERVAL, BURST) > 0);
+        }
+        assertEquals(0, bucket.tryConsume(100, INTERVAL, BURST));
+    }
+
+    @Test
+    void idleBucketRefillsToCapacityButNotBeyond() {
+        TokenBucket bucket = drained(0);
+
+        long later = 1_000_000;
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryConsume(later, INTERVAL, BURST));
+        }
+        assertEquals(INTERVAL, bucket.tryConsume(later, INTERVAL, BURST));
+    }
+
+    @Test
+    void refundedTokenCanBeTakenAgain() {
+        TokenBucket bucket = drained(0);
+        assertEquals(INTERVAL, bucket.tryConsume(0, INTERVAL, BURST));
+
+        bucket.refund(INTERVAL);
+        assertEquals(0, bucket.tryConsume(0, INTERVAL, BURST));
+        assertEquals(INTERVAL, bucket.tryConsume(0, INTERVAL, BURST));
+    }
+
+    @Test
+    void bucketIsIdleOnceFullAgain() {
+        TokenBucket bucket = new TokenBucket(0);
+        assertTrue(bucket.isIdle(0));
+
+        bucket.tryConsume(0, INTERVAL, BURST);
+        bucket.tryConsume(0, INTERVAL, BURST);
+        assertFalse(bucket.isIdle(0));
+        assertFalse(bucket.isIdle(199));
+        assertTrue(bucket.isIdle(200));
+    }
+
+    @Test
+    void concurrentConsumersShareOneBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(0);
+        long burst = INTERVAL * 1000;
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryConsume(0, INTERVAL, burst) == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> result : results) {
+                admitted += result.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1000, admitted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TokenBucket drained(long now) {
+        TokenBucket bucket = new TokenBucket(now);
+        while (bucket.tryConsume(now, INTERVAL, BURST) == 0) {
+            // take the whole burst
+        }
+        return bucket;
+    }
+}
\ No newline at end of file
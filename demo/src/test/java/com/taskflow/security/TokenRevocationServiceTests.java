@@ -0,0 +1,115 @@
+package com.taskflow.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:token-revocation;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "changelog.poll-interval-ms=3600000",
+        "jwt.revocation.expected-entries=1000",
+        "jwt.revocation.prune-interval-ms=3600000"
+})
+class TokenRevocationServiceTests {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void revokedTokensAreReportedAndOthersAreNot() {
+        String jti = UUID.randomUUID().toString();
+        assertFalse(tokenRevocationService.isRevoked(jti));
+
+        assertTrue(tokenRevocationService.revoke(jti, inFiveMinutes()));
+        assertTrue(tokenRevocationService.isRevoked(jti));
+        assertFalse(tokenRevocationService.revoke(jti, inFiveMinutes()));
+        assertFalse(tokenRevocationService.isRevoked(UUID.randomUUID().toString()));
+        assertTrue(tokenRevocationService.isRevoked(null));
+    }
+
+    @Test
+    void expiredTokensAreNotStored() {
+        String jti = UUID.randomUUID().toString();
+        assertFalse(tokenRevocationService.revoke(jti, new Date(System.currentTimeMillis() - 1000)));
+        assertFalse(tokenRevocationService.isRevoked(jti));
+    }
+
+    @Test
+    void pruneKeepsActiveRevocations() {
+        String active = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+        assertTrue(tokenRevocationService.revoke(active, inFiveMinutes()));
+        jdbcTemplate.update("insert into revoked_tokens (jti, expires_at) values (?, ?)", expired,
+                new Timestamp(System.currentTimeMillis() - 1000));
+
+        tokenRevocationService.prune();
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from revoked_tokens where jti = ?",
+                Integer.class, expired));
+        assertTrue(tokenRevocationService.isRevoked(active));
+        assertFalse(tokenRevocationService.isRevoked(expired));
+    }
+
+    @Test
+    void revocationsDuringRebuildAreKept() throws Exception {
+        int threads = 4;
+        int perThread = 250;
+        List<String> revoked = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> revoking = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                revoking.add(executor.submit(() -> {
+                    start.await();
+                    List<String> ids = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        String jti = UUID.randomUUID().toString();
+                        assertTrue(tokenRevocationService.revoke(jti, inFiveMinutes()));
+                        ids.add(jti);
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            // each rebuild swaps in a fresh filter while revocations keep committing
+            while (!revoking.stream().allMatch(Future::isDone)) {
+                ReflectionTestUtils.invokeMethod(tokenRevocationService, "rebuild");
+            }
+            for (Future<List<String>> ids : revoking) {
+                revoked.addAll(ids.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, revoked.size());
+        for (String jti : revoked) {
+            assertTrue(tokenRevocationService.isRevoked(jti), jti);
+        }
+    }
+
+    private static Date inFiveMinutes() {
+        return new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.taskflow.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive-service;DB_CLOSE_DELAY=-1",
+        "reminder.enabled=false",
+        "archive.initial-delay-ms=3600000",
+        "archive.batch-size=50",
+        "activity.queue-capacity=16"
+})
+class ArchiveServiceTests {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long boardId;
+    private long doneColumnId;
+
+    @BeforeEach
+    void createBoard() {
+        String username = "archive-" + UUID.randomUUID();
+        jdbcTemplate.update("insert into users (username, email, password, created_at) " +
+                "values (?, ?, 'pw', current_timestamp)", username, username + "@example.com");
+        long ownerId = jdbcTemplate.queryForObject("select id from users where username = ?", Long.class, username);
+        jdbcTemplate.update("insert into boards (name, owner_id, version, created_at) " +
+                "values (?, ?, 0, current_timestamp)", username, ownerId);
+        boardId = jdbcTemplate.queryForObject("select id from boards where owner_id = ?", Long.class, ownerId);
+        jdbcTemplate.update("insert into columns (name, column_order, board_id, done, created_at) " +
+                "values ('Done', 0, ?, true, current_timestamp)", boardId);
+        doneColumnId = jdbcTemplate.queryForObject("select id from columns where board_id = ?", Long.class, boardId);
+    }
+
+    @Test
+    void archiveRecordsOneActivityPerTask() {
+        insertDoneTasks(120, 40);
+        insertDoneTasks(5, 1);
+
+        archiveService.archiveDoneTasks();
+
+        assertEquals(120, count("select count(*) from tasks_archive where board_id = ?"));
+        assertEquals(5, count("select count(*) from tasks where board_id = ?"));
+        assertEquals(120, count("select count(*) from task_activity where board_id = ? and type = 'ARCHIVED'"));
+    }
+
+    private void insertDoneTasks(int count, int daysAgo) {
+        jdbcTemplate.update("insert into tasks (title, column_id, board_id, priority, task_order, created_at, " +
+                "completed_at) select 'Task ' || x, ?, ?, 'LOW', x, current_timestamp, " +
+                "dateadd('DAY', ?, current_timestamp) from system_range(1, ?)", doneColumnId, boardId, -daysAgo, count);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, boardId);
+    }
+}
\ No newline at end of file
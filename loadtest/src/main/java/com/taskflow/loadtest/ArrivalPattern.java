@@ -0,0 +1,33 @@
+package com.taskflow.loadtest;
+
+import java.util.Random;
+
+/**
+ * Open-loop arrival schedule: the time between new virtual users depends only on the clock, never
+ * on how fast the server answers.
+ */
+public interface ArrivalPattern {
+
+    /**
+     * Nanoseconds until the next user arrives, given how long the run has been going.
+     */
+    long nextGapNanos(long elapsedNanos);
+
+    static ArrivalPattern constant(double usersPerSecond) {
+        long gap = (long) (1e9 / usersPerSecond);
+        return elapsed -> gap;
+    }
+
+    static ArrivalPattern ramp(double fromPerSecond, double toPerSecond, long rampNanos) {
+        return elapsed -> {
+            double progress = Math.min(1.0, (double) elapsed / rampNanos);
+            double rate = fromPerSecond + (toPerSecond - fromPerSecond) * progress;
+            return (long) (1e9 / Math.max(rate, 0.001));
+        };
+    }
+
+    static ArrivalPattern poisson(ArrivalPattern mean, long seed) {
+        Random random = new Random(seed);
+        return elapsed -> (long) (-Math.log(1.0 - random.nextDouble()) * mean.nextGapNanos(elapsed));
+    }
+}
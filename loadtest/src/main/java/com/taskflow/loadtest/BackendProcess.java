@@ -0,0 +1,74 @@
+package com.taskflow.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the backend jar on an embedded or file-backed H2 database with a JFR recording that is
+ * written when the process exits.
+ */
+public class BackendProcess implements AutoCloseable {
+
+    private final Process process;
+
+    private BackendProcess(Process process) {
+        this.process = process;
+    }
+
+    public static BackendProcess start(LoadTestConfig config, Path runDir) throws IOException, InterruptedException {
+        List<String> command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:StartFlightRecording=filename=" + runDir.resolve("backend.jfr").toAbsolutePath()
+                        + ",settings=profile,dumponexit=true",
+                "-jar", config.backendJar.toAbsolutePath().toString(),
+                "--server.port=" + config.backendPort,
+                "--spring.datasource.url=" + config.backendDb,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.taskflow=INFO",
+                "--logging.level.org.springframework.security=INFO",
+                "--ratelimit.enabled=false");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(runDir.resolve("backend.log").toFile())
+                .start();
+        BackendProcess backend = new BackendProcess(process);
+        backend.awaitReady(config, Duration.ofMinutes(2));
+        return backend;
+    }
+
+    private void awaitReady(LoadTestConfig config, Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(config.baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + process.exitValue());
+            }
+            try {
+                client.send(probe, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(200);
+            }
+        }
+        throw new IllegalStateException("Backend did not become ready within " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
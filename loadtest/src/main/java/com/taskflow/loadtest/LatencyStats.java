@@ -0,0 +1,65 @@
+package com.taskflow.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean ok) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+        stats.histogram.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (!ok) {
+            stats.errors.increment();
+        }
+    }
+
+    public void report(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "mean ms");
+        long total = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram h = entry.getValue().histogram;
+            if (!entry.getKey().startsWith("(")) {
+                total += h.getTotalCount();
+            }
+            out.printf("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), h.getTotalCount(), entry.getValue().errors.sum(), h.getTotalCount() / seconds,
+                    ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                    ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()), h.getMean() / 1e6);
+        }
+        out.printf("total %d requests in %.1f s, %.1f req/s%n", total, seconds, total / seconds);
+    }
+
+    public void writeHistograms(Path dir) throws IOException {
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            String name = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(name + ".hgrm")))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1e6);
+            }
+        }
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(1, MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskflow.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadTestConfig {
+
+    String baseUrl = "http://localhost:8080/api";
+    Path backendJar;
+    int backendPort = 8080;
+    String backendDb = "jdbc:h2:mem:loadtest";
+    String arrival = "poisson";
+    double rate = 5;
+    double rampFrom = 1;
+    double rampTo = 20;
+    Duration rampDuration = Duration.ofSeconds(60);
+    Duration duration = Duration.ofSeconds(60);
+    Duration drainTimeout = Duration.ofSeconds(60);
+    Duration requestTimeout = Duration.ofSeconds(30);
+    int tasksPerUser = 10;
+    int dragsPerUser = 20;
+    long seed = 42;
+    Path outputDir = Path.of("target", "loadtest");
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig();
+        if (options.containsKey("backend-jar")) {
+            config.backendJar = Path.of(options.remove("backend-jar"));
+        }
+        if (options.containsKey("backend-port")) {
+            config.backendPort = Integer.parseInt(options.remove("backend-port"));
+        }
+        config.baseUrl = options.getOrDefault("base-url",
+                config.backendJar != null ? "http://localhost:" + config.backendPort + "/api" : config.baseUrl);
+        options.remove("base-url");
+        config.backendDb = options.getOrDefault("backend-db", config.backendDb);
+        options.remove("backend-db");
+        config.arrival = options.getOrDefault("arrival", config.arrival);
+        options.remove("arrival");
+        config.rate = Double.parseDouble(options.getOrDefault("rate", String.valueOf(config.rate)));
+        options.remove("rate");
+        config.rampFrom = Double.parseDouble(options.getOrDefault("ramp-from", String.valueOf(config.rampFrom)));
+        options.remove("ramp-from");
+        config.rampTo = Double.parseDouble(options.getOrDefault("ramp-to", String.valueOf(config.rampTo)));
+        options.remove("ramp-to");
+        config.rampDuration = seconds(options.remove("ramp-seconds"), config.rampDuration);
+        config.duration = seconds(options.remove("duration-seconds"), config.duration);
+        config.drainTimeout = seconds(options.remove("drain-seconds"), config.drainTimeout);
+        config.requestTimeout = seconds(options.remove("request-timeout-seconds"), config.requestTimeout);
+        config.tasksPerUser = Integer.parseInt(options.getOrDefault("tasks-per-user", String.valueOf(config.tasksPerUser)));
+        options.remove("tasks-per-user");
+        config.dragsPerUser = Integer.parseInt(options.getOrDefault("drags-per-user", String.valueOf(config.dragsPerUser)));
+        options.remove("drags-per-user");
+        config.seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(config.seed)));
+        options.remove("seed");
+        if (options.containsKey("out")) {
+            config.outputDir = Path.of(options.remove("out"));
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    ArrivalPattern arrivalPattern() {
+        switch (arrival) {
+            case "constant":
+                return ArrivalPattern.constant(rate);
+            case "poisson":
+                return ArrivalPattern.poisson(ArrivalPattern.constant(rate), seed);
+            case "ramp":
+                return ArrivalPattern.ramp(rampFrom, rampTo, rampDuration.toNanos());
+            case "poisson-ramp":
+                return ArrivalPattern.poisson(ArrivalPattern.ramp(rampFrom, rampTo, rampDuration.toNanos()), seed);
+            default:
+                throw new IllegalArgumentException("Unknown arrival pattern: " + arrival);
+        }
+    }
+
+    private static Duration seconds(String value, Duration fallback) {
+        return value == null ? fallback : Duration.ofMillis((long) (Double.parseDouble(value) * 1000));
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        Path runDir = config.outputDir.resolve("run-" + runId);
+        Files.createDirectories(runDir);
+
+        BackendProcess backend = config.backendJar != null ? BackendProcess.start(config, runDir) : null;
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.setName("taskflow-loadtest");
+            recording.start();
+
+            LatencyStats stats = new LatencyStats();
+            long elapsed = run(config, runId, stats);
+
+            recording.dump(runDir.resolve("loadgen.jfr"));
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            PrintStream report = new PrintStream(buffer, true);
+            report.printf("arrival=%s rate=%.2f ramp=%.2f->%.2f duration=%ss tasks/user=%d drags/user=%d%n",
+                    config.arrival, config.rate, config.rampFrom, config.rampTo, config.duration.toSeconds(),
+                    config.tasksPerUser, config.dragsPerUser);
+            stats.report(report, elapsed);
+            Files.write(runDir.resolve("report.txt"), buffer.toByteArray());
+            stats.writeHistograms(runDir);
+            System.out.print(buffer);
+            System.out.println("results written to " + runDir.toAbsolutePath());
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+        }
+    }
+
+    private static long run(LoadTestConfig config, String runId, LatencyStats stats) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.requestTimeout)
+                .build();
+        ObjectMapper mapper = new ObjectMapper();
+        ArrivalPattern pattern = config.arrivalPattern();
+        ConcurrentLinkedQueue<CompletableFuture<?>> sessions = new ConcurrentLinkedQueue<>();
+        AtomicInteger failed = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long end = start + config.duration.toNanos();
+        long next = start;
+        int users = 0;
+        while (next < end) {
+            long now = System.nanoTime();
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            stats.record("(arrival lag)", now - next, true);
+            long sessionStart = next;
+            CompletableFuture<Void> session = new UserFlow(client, mapper, stats, config, runId, users++).run()
+                    .whenComplete((v, error) -> {
+                        stats.record("(session)", System.nanoTime() - sessionStart, error == null);
+                        if (error != null && failed.getAndIncrement() < 10) {
+                            System.err.println("session failed: " + error.getMessage());
+                        }
+                    });
+            sessions.add(session.handle((v, error) -> null));
+            next += pattern.nextGapNanos(next - start);
+        }
+
+        try {
+            CompletableFuture.allOf(sessions.toArray(new CompletableFuture[0]))
+                    .get(config.drainTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            System.err.println("drain timed out with sessions still in flight");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        System.out.printf("%d users started, %d sessions failed%n", users, failed.get());
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * One virtual user replaying what src/App.jsx does: register, list boards, create a board, open it
+ * with its three parallel GETs, create tasks, drag them between columns with full-object PUTs, then
+ * log in again and reopen the board.
+ */
+public class UserFlow {
+
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final LatencyStats stats;
+    private final LoadTestConfig config;
+    private final String username;
+    private final Random random;
+    private String token;
+
+    public UserFlow(HttpClient client, ObjectMapper mapper, LatencyStats stats, LoadTestConfig config,
+                    String runId, int userNo) {
+        this.client = client;
+        this.mapper = mapper;
+        this.stats = stats;
+        this.config = config;
+        this.username = "lt" + runId + "u" + userNo;
+        this.random = new Random(config.seed + userNo);
+    }
+
+    public CompletableFuture<Void> run() {
+        Map<String, String> credentials = Map.of("username", username, "password", "loadtest");
+        return call("POST /auth/register", "POST", "/auth/register",
+                Map.of("username", username, "email", username + "@loadtest.local", "password", "loadtest",
+                        "fullName", "Load Test"))
+                .thenCompose(auth -> {
+                    token = auth.get("token").asText();
+                    return call("GET /boards", "GET", "/boards", null);
+                })
+                .thenCompose(boards -> boards.size() > 0
+                        ? CompletableFuture.completedFuture(boards.get(0).get("id").asLong())
+                        : call("POST /boards", "POST", "/boards",
+                                Map.of("name", username + " board", "description", "load test"))
+                                .thenApply(board -> board.get("id").asLong()))
+                .thenCompose(boardId -> openBoard(boardId)
+                        .thenCompose(columns -> createTasks(boardId, columns)
+                                .thenCompose(tasks -> dragTasks(tasks, columns))))
+                .thenCompose(v -> call("POST /auth/login", "POST", "/auth/login", credentials))
+                .thenCompose(auth -> {
+                    token = auth.get("token").asText();
+                    return call("GET /boards", "GET", "/boards", null);
+                })
+                .thenCompose(boards -> openBoard(boards.get(0).get("id").asLong()))
+                .thenApply(columns -> null);
+    }
+
+    private CompletableFuture<JsonNode> openBoard(long boardId) {
+        CompletableFuture<JsonNode> board = call("GET /boards/{id}", "GET", "/boards/" + boardId, null);
+        CompletableFuture<JsonNode> columns = call("GET /boards/{id}/columns", "GET", "/boards/" + boardId + "/columns", null);
+        CompletableFuture<JsonNode> tasks = call("GET /boards/{id}/tasks", "GET", "/boards/" + boardId + "/tasks", null);
+        return CompletableFuture.allOf(board, columns, tasks).thenApply(v -> columns.join());
+    }
+
+    private CompletableFuture<List<ObjectNode>> createTasks(long boardId, JsonNode columns) {
+        CompletableFuture<List<ObjectNode>> chain = CompletableFuture.completedFuture(new ArrayList<>());
+        for (int i = 0; i < config.tasksPerUser; i++) {
+            int n = i;
+            chain = chain.thenCompose(created -> {
+                ObjectNode body = mapper.createObjectNode();
+                body.put("title", "Task " + n);
+                body.put("description", "Created by " + username);
+                body.put("columnId", columns.get(random.nextInt(columns.size())).get("id").asLong());
+                body.put("dueDate", random.nextBoolean() ? LocalDate.now().plusDays(random.nextInt(14)).toString() : "");
+                body.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+                body.putArray("tags").add("loadtest").add("tag" + random.nextInt(5));
+                body.put("boardId", boardId);
+                return call("POST /tasks", "POST", "/tasks", body).thenApply(task -> {
+                    created.add((ObjectNode) task);
+                    return created;
+                });
+            });
+        }
+        return chain;
+    }
+
+    private CompletableFuture<Void> dragTasks(List<ObjectNode> tasks, JsonNode columns) {
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        if (tasks.isEmpty()) {
+            return chain;
+        }
+        for (int i = 0; i < config.dragsPerUser; i++) {
+            chain = chain.thenCompose(v -> {
+                ObjectNode task = tasks.get(random.nextInt(tasks.size()));
+                long target = columns.get(random.nextInt(columns.size())).get("id").asLong();
+                ObjectNode dragged = task.deepCopy();
+                dragged.put("columnId", target);
+                return call("PUT /tasks/{id}", "PUT", "/tasks/" + task.get("id").asLong(), dragged)
+                        .thenAccept(updated -> task.put("columnId", target));
+            });
+        }
+        return chain;
+    }
+
+    private CompletableFuture<JsonNode> call(String endpoint, String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(config.requestTimeout)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            builder.method(method, body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        return client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    boolean ok = error == null && response.statusCode() / 100 == 2;
+                    stats.record(endpoint, System.nanoTime() - start, ok);
+                    if (!ok) {
+                        throw new CompletionException(new IllegalStateException(endpoint + " failed: "
+                                + (error != null ? error : response.statusCode() + " " + response.body())));
+                    }
+                    try {
+                        return mapper.readTree(response.body());
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+}
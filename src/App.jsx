@@ -6,6 +6,8 @@ const API_BASE = 'http://localhost:8080/api';
 
 // Configure axios defaults
 axios.defaults.baseURL = API_BASE;
+// the API pins reads after a write to the primary database with a short-lived cookie
+axios.defaults.withCredentials = true;
 axios.interceptors.request.use(config => {
     const token = localStorage.getItem('token');
     if (token) {
@@ -14,6 +16,49 @@ axios.interceptors.request.use(config => {
     return config;
 });
 
+// Access tokens are short-lived: on a 401, trade the refresh token for a new pair and retry once.
+// Refresh tokens are single-use, so requests failing together share one refresh instead of racing.
+let refreshing = null;
+
+const refreshTokens = () => {
+    if (!refreshing) {
+        const refreshToken = localStorage.getItem('refreshToken');
+        refreshing = axios.post('/auth/refresh', { refreshToken })
+            .then(response => {
+                localStorage.setItem('token', response.data.token);
+                localStorage.setItem('refreshToken', response.data.refreshToken);
+                return response.data.token;
+            })
+            .catch(refreshError => {
+                // another tab may have rotated the token meanwhile; only drop the one that was rejected
+                if (localStorage.getItem('refreshToken') === refreshToken) {
+                    localStorage.removeItem('refreshToken');
+                }
+                throw refreshError;
+            })
+            .finally(() => {
+                refreshing = null;
+            });
+    }
+    return refreshing;
+};
+
+axios.interceptors.response.use(null, async error => {
+    const original = error.config;
+    if (localStorage.getItem('refreshToken') && original && !original._retried && error.response?.status === 401
+        && !original.url.startsWith('/auth/')) {
+        original._retried = true;
+        try {
+            const token = await refreshTokens();
+            original.headers.Authorization = `Bearer ${token}`;
+            return axios(original);
+        } catch {
+            // fall through and report the original failure
+        }
+    }
+    return Promise.reject(error);
+});
+
 const App = () => {
     const [user, setUser] = useState(null);
     const [isLogin, setIsLogin] = useState(true);
@@ -70,6 +115,7 @@ const App = () => {
             const response = await axios.post(endpoint, authForm);
 
             localStorage.setItem('token', response.data.token);
+            localStorage.setItem('refreshToken', response.data.refreshToken);
             localStorage.setItem('user', JSON.stringify(response.data.user));
             setUser(response.data.user);
             loadBoards();
@@ -79,7 +125,10 @@ const App = () => {
     };
 
     const handleLogout = () => {
+        axios.post('/auth/logout', { refreshToken: localStorage.getItem('refreshToken') },
+            { headers: { Authorization: `Bearer ${localStorage.getItem('token')}` } }).catch(() => {});
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('user');
         setUser(null);
         setBoards([]);